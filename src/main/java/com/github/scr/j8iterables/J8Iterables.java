@@ -1,22 +1,47 @@
 package com.github.scr.j8iterables;
 
+import com.github.scr.j8iterables.core.ArrayIterable;
+import com.github.scr.j8iterables.core.AsyncPeeker;
 import com.github.scr.j8iterables.core.ConsumingIdentity;
 import com.github.scr.j8iterables.core.Ends;
+import com.github.scr.j8iterables.core.FluentDoubleIterable;
+import com.github.scr.j8iterables.core.FluentIntIterable;
+import com.github.scr.j8iterables.core.FluentLongIterable;
+import com.github.scr.j8iterables.core.IterationMetrics;
+import com.github.scr.j8iterables.core.IterationMetricsRegistry;
 import com.github.scr.j8iterables.core.J8PrimitiveIterable;
+import com.github.scr.j8iterables.core.KnownCharacteristics;
+import com.github.scr.j8iterables.core.MemoizedReverseIterable;
+import com.github.scr.j8iterables.core.MeteredIterator;
+import com.github.scr.j8iterables.core.PartitionCombineTask;
 import com.github.scr.j8iterables.core.PeekIterator;
+import com.github.scr.j8iterables.core.PeekSampler;
+import com.github.scr.j8iterables.core.PrefetchingIterator;
+import com.github.scr.j8iterables.core.ReplayableStreamIterable;
+import com.github.scr.j8iterables.core.ReverseListSpliterator;
+import com.github.scr.j8iterables.core.SamplingPeekIterator;
+import com.github.scr.j8iterables.core.SpillCodec;
+import com.github.scr.j8iterables.core.SpillingReverseIterator;
+import com.github.scr.j8iterables.core.SpliteratorCollectTask;
 import com.github.scr.j8iterables.core.StreamIterable;
 import com.github.scr.j8iterables.core.SupplierIterable;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.ObjectArrays;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -72,8 +97,122 @@ public class J8Iterables {
         return result;
     }
 
+    /**
+     * Collect iterable of iterables into a mutable container in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param iterables   The iterable of iterables
+     * @param supplier    The container supplier
+     * @param accumulator The accumulator function
+     * @param combiner    The combiner function
+     * @param <T>         The type of elements
+     * @param <R>         The return type
+     * @return Collected result
+     * @see #parallelCollect(Iterable, Supplier, BiConsumer, BiConsumer, ForkJoinPool)
+     */
+    @Nullable
+    public static <T, R> R parallelCollect(Iterable<Iterable<T>> iterables,
+                                           Supplier<R> supplier,
+                                           BiConsumer<R, ? super T> accumulator,
+                                           BiConsumer<R, R> combiner) {
+        return parallelCollect(iterables, supplier, accumulator, combiner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Collect iterable of iterables into a mutable container in parallel.
+     * <p>
+     * Each inner iterable is collected into its own container by a {@link java.util.concurrent.ForkJoinTask} on the
+     * given {@code pool}, and the containers are combined pairwise in a balanced tree that preserves the order of the
+     * inner iterables.
+     *
+     * @param iterables   The iterable of iterables
+     * @param supplier    The container supplier
+     * @param accumulator The accumulator function
+     * @param combiner    The combiner function
+     * @param pool        The pool to run the collection on
+     * @param <T>         The type of elements
+     * @param <R>         The return type
+     * @return Collected result
+     * @see Stream#collect(Supplier, BiConsumer, BiConsumer)
+     */
+    @Nullable
+    public static <T, R> R parallelCollect(Iterable<Iterable<T>> iterables,
+                                           Supplier<R> supplier,
+                                           BiConsumer<R, ? super T> accumulator,
+                                           BiConsumer<R, R> combiner,
+                                           ForkJoinPool pool) {
+        List<Iterable<T>> partitions = Lists.newArrayList(iterables);
+        if (partitions.isEmpty()) {
+            return supplier.get();
+        }
+        return pool.invoke(new PartitionCombineTask<Iterable<T>, R>(partitions, iterable -> {
+            R innerResult = supplier.get();
+            for (T element : iterable) {
+                accumulator.accept(innerResult, element);
+            }
+            return innerResult;
+        }, (left, right) -> {
+            combiner.accept(left, right);
+            return left;
+        }));
+    }
+
+    /**
+     * Collect iterable of iterables in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param iterables The iterable of iterables
+     * @param collector The collector object
+     * @param <T>       The type of elements
+     * @param <A>       The type of accumulator
+     * @param <R>       The return type
+     * @return Collected result
+     * @see #parallelCollect(Iterable, Collector, ForkJoinPool)
+     */
+    @Nullable
+    public static <T, A, R> R parallelCollect(Iterable<Iterable<T>> iterables,
+                                              Collector<? super T, A, R> collector) {
+        return parallelCollect(iterables, collector, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Collect iterable of iterables in parallel.
+     * <p>
+     * Each inner iterable is accumulated into its own container by a {@link java.util.concurrent.ForkJoinTask} on the
+     * given {@code pool}, the containers are merged with {@link Collector#combiner()} in a balanced tree and the result
+     * is passed through the {@link Collector#finisher()}.
+     *
+     * @param iterables The iterable of iterables
+     * @param collector The collector object
+     * @param pool      The pool to run the collection on
+     * @param <T>       The type of elements
+     * @param <A>       The type of accumulator
+     * @param <R>       The return type
+     * @return Collected result
+     * @see Stream#collect(Collector)
+     */
+    @Nullable
+    public static <T, A, R> R parallelCollect(Iterable<Iterable<T>> iterables,
+                                              Collector<? super T, A, R> collector,
+                                              ForkJoinPool pool) {
+        Supplier<A> supplier = collector.supplier();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        List<Iterable<T>> partitions = Lists.newArrayList(iterables);
+        if (partitions.isEmpty()) {
+            return finish(collector, supplier.get());
+        }
+        A container = pool.invoke(new PartitionCombineTask<Iterable<T>, A>(partitions, iterable -> {
+            A innerContainer = supplier.get();
+            for (T element : iterable) {
+                accumulator.accept(innerContainer, element);
+            }
+            return innerContainer;
+        }, collector.combiner()));
+        return finish(collector, container);
+    }
+
     /**
      * Collect iterable into a mutable container.
+     * <p>
+     * The {@link Collector#finisher()} is skipped for {@link Collector.Characteristics#IDENTITY_FINISH} collectors.
      *
      * @param iterable  The iterable
      * @param collector The collector object
@@ -90,6 +229,57 @@ public class J8Iterables {
         for (T t : iterable) {
             accumulator.accept(container, t);
         }
+        return finish(collector, container);
+    }
+
+    /**
+     * Collect iterable into a mutable container in parallel.
+     * <p>
+     * The iterable's {@link Iterable#spliterator()} is split into pieces that are accumulated by
+     * {@link java.util.concurrent.ForkJoinTask}s on the given {@code pool}. When the collector is
+     * {@link Collector.Characteristics#CONCURRENT} and either {@link Collector.Characteristics#UNORDERED} or the
+     * spliterator is not {@link Spliterator#ORDERED}, all pieces accumulate into one shared container; otherwise each
+     * piece gets its own container and the containers are combined in encounter order.
+     *
+     * @param iterable  The iterable
+     * @param collector The collector object
+     * @param pool      The pool to run the collection on
+     * @param <T>       The type of elements
+     * @param <A>       The type of accumulator
+     * @param <R>       The return type
+     * @return Collected result
+     * @see Stream#collect(Collector)
+     */
+    @Nullable
+    public static <T, A, R> R collect(Iterable<T> iterable, Collector<? super T, A, R> collector, ForkJoinPool pool) {
+        Spliterator<T> spliterator = iterable.spliterator();
+        Set<Collector.Characteristics> characteristics = collector.characteristics();
+        A sharedContainer = null;
+        if (characteristics.contains(Collector.Characteristics.CONCURRENT) &&
+                (characteristics.contains(Collector.Characteristics.UNORDERED) ||
+                        !spliterator.hasCharacteristics(Spliterator.ORDERED))) {
+            sharedContainer = collector.supplier().get();
+        }
+        A container = pool.invoke(
+                new SpliteratorCollectTask<>(spliterator, collector, sharedContainer, pool.getParallelism()));
+        return finish(collector, container);
+    }
+
+    /**
+     * Apply the {@link Collector#finisher()} unless the collector declares
+     * {@link Collector.Characteristics#IDENTITY_FINISH}.
+     *
+     * @param collector The collector object
+     * @param container The accumulated container
+     * @param <A>       The type of accumulator
+     * @param <R>       The return type
+     * @return the finished result
+     */
+    @SuppressWarnings("unchecked")
+    private static <A, R> R finish(Collector<?, A, R> collector, A container) {
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (R) container;
+        }
         return collector.finisher().apply(container);
     }
 
@@ -166,8 +356,94 @@ public class J8Iterables {
         return result;
     }
 
+    /**
+     * Perform a reduction on an iterable of iterables in parallel on the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param iterables   An iterator of iterables.
+     * @param identity    The identity to start reduction with
+     * @param accumulator The accumulator function
+     * @param combiner    The combiner function
+     * @param <T>         The type of elements
+     * @param <U>         The reduced type
+     * @return The reduced result
+     * @see #parallelReduce(Iterable, Object, BiFunction, BinaryOperator, boolean, ForkJoinPool)
+     */
+    @Nullable
+    public static <T, U> U parallelReduce(Iterable<Iterable<T>> iterables,
+                                          @Nullable U identity,
+                                          BiFunction<U, ? super T, U> accumulator,
+                                          BinaryOperator<U> combiner) {
+        return parallelReduce(iterables, identity, accumulator, combiner, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Perform a reduction on an iterable of iterables in parallel on the given {@code pool}.
+     *
+     * @param iterables   An iterator of iterables.
+     * @param identity    The identity to start reduction with
+     * @param accumulator The accumulator function
+     * @param combiner    The combiner function
+     * @param pool        The pool to run the reduction on
+     * @param <T>         The type of elements
+     * @param <U>         The reduced type
+     * @return The reduced result
+     * @see #parallelReduce(Iterable, Object, BiFunction, BinaryOperator, boolean, ForkJoinPool)
+     */
+    @Nullable
+    public static <T, U> U parallelReduce(Iterable<Iterable<T>> iterables,
+                                          @Nullable U identity,
+                                          BiFunction<U, ? super T, U> accumulator,
+                                          BinaryOperator<U> combiner,
+                                          ForkJoinPool pool) {
+        return parallelReduce(iterables, identity, accumulator, combiner, true, pool);
+    }
+
+    /**
+     * Perform a reduction on an iterable of iterables in parallel.
+     * <p>
+     * Each inner iterable is reduced from {@code identity} by its own {@link java.util.concurrent.ForkJoinTask} on the
+     * given {@code pool}. When {@code ordered}, the partial results are combined pairwise in a balanced tree that
+     * preserves the order of the inner iterables, which gives deterministic results for associative combiners. When
+     * not {@code ordered}, partial results are combined as soon as two of them have finished, which requires the
+     * combiner to also be commutative and the partial results to be non-null.
+     *
+     * @param iterables   An iterator of iterables.
+     * @param identity    The identity to start reduction with
+     * @param accumulator The accumulator function
+     * @param combiner    The combiner function
+     * @param ordered     Whether to combine the partial results in the order of the inner iterables
+     * @param pool        The pool to run the reduction on
+     * @param <T>         The type of elements
+     * @param <U>         The reduced type
+     * @return The reduced result
+     * @see Stream#reduce(Object, BiFunction, BinaryOperator)
+     */
+    @Nullable
+    public static <T, U> U parallelReduce(Iterable<Iterable<T>> iterables,
+                                          @Nullable U identity,
+                                          BiFunction<U, ? super T, U> accumulator,
+                                          BinaryOperator<U> combiner,
+                                          boolean ordered,
+                                          ForkJoinPool pool) {
+        List<Iterable<T>> partitions = Lists.newArrayList(iterables);
+        if (partitions.isEmpty()) {
+            return identity;
+        }
+        return pool.invoke(new PartitionCombineTask<Iterable<T>, U>(partitions, iterable -> {
+            U innerResult = identity;
+            for (T element : iterable) {
+                innerResult = accumulator.apply(innerResult, element);
+            }
+            return innerResult;
+        }, combiner, ordered));
+    }
+
     /**
      * Return the first and last elements or {@link Optional#empty()} if {@code Iterables.isEmpty(iterable)}.
+     * <p>
+     * {@link ArrayIterable}s, {@link RandomAccess} lists, deques and sorted sets (including the key sets of navigable
+     * maps) are answered without traversal, and other lists by iterating backwards from the end; other iterables are
+     * traversed.
      *
      * @param iterable The iterable to get the ends from
      * @param <T>      The type of element in the iterable
@@ -175,9 +451,58 @@ public class J8Iterables {
      */
     @Nonnull
     public static <T> Optional<Ends<T>> ends(Iterable<T> iterable) {
+        // Collections that know their ends are answered without traversal.
+        try {
+            if (iterable instanceof ArrayIterable) {
+                ArrayIterable<T> arrayIterable = (ArrayIterable<T>) iterable;
+                int length = arrayIterable.length();
+                return length == 0
+                        ? Optional.empty()
+                        : Optional.of(new Ends<>(arrayIterable.elementAt(0), arrayIterable.elementAt(length - 1)));
+            } else if (iterable instanceof List && iterable instanceof RandomAccess) {
+                List<T> list = (List<T>) iterable;
+                int size = list.size();
+                return size == 0 ? Optional.empty() : Optional.of(new Ends<>(list.get(0), list.get(size - 1)));
+            } else if (iterable instanceof Deque) {
+                Deque<T> deque = (Deque<T>) iterable;
+                return deque.isEmpty() ? Optional.empty() : Optional.of(new Ends<>(deque.getFirst(), deque.getLast()));
+            } else if (iterable instanceof SortedSet) {
+                SortedSet<T> sortedSet = (SortedSet<T>) iterable;
+                return sortedSet.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(new Ends<>(sortedSet.first(), sortedSet.last()));
+            } else if (iterable instanceof List) {
+                List<T> list = (List<T>) iterable;
+                ListIterator<T> listIterator = list.listIterator(list.size());
+                if (!listIterator.hasPrevious()) {
+                    return Optional.empty();
+                }
+                T last = listIterator.previous();
+                return Optional.of(new Ends<>(list.iterator().next(), last));
+            }
+        } catch (NoSuchElementException | IndexOutOfBoundsException e) {
+            // Emptied concurrently.
+            return Optional.empty();
+        }
         return J8Iterators.ends(iterable.iterator());
     }
 
+    /**
+     * Return the first and last entries of {@code navigableMap} or {@link Optional#empty()} if it is empty, without
+     * traversal.
+     *
+     * @param navigableMap The map to get the ends from
+     * @param <K>          The type of keys
+     * @param <V>          The type of values
+     * @return optional {@link Ends} with the first and last entries of the map
+     */
+    @Nonnull
+    public static <K, V> Optional<Ends<Map.Entry<K, V>>> ends(NavigableMap<K, V> navigableMap) {
+        Map.Entry<K, V> first = navigableMap.firstEntry();
+        Map.Entry<K, V> last = navigableMap.lastEntry();
+        return first == null || last == null ? Optional.empty() : Optional.of(new Ends<>(first, last));
+    }
+
     /**
      * Peek at the iterable without modifying the result.
      *
@@ -192,6 +517,90 @@ public class J8Iterables {
         return fromSupplier(() -> new PeekIterator<>(iterable.iterator(), consumer));
     }
 
+    /**
+     * Record {@link IterationMetrics} named {@code name} in the default {@link IterationMetricsRegistry} about each
+     * iteration of {@code iterable}.
+     *
+     * @param iterable The iterable to meter
+     * @param name     The name of the metrics
+     * @param <T>      The type of elements
+     * @return an Iterable whose iterators are {@link MeteredIterator}s
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> metered(Iterable<T> iterable, String name) {
+        return metered(iterable, IterationMetricsRegistry.getDefault().metrics(name));
+    }
+
+    /**
+     * Record {@code metrics} about each iteration of {@code iterable}: iterations started and completed, elements,
+     * time to the first element, traversal time and (sampled) time spent in the source iterator's {@code next}.
+     *
+     * @param iterable The iterable to meter
+     * @param metrics  The metrics to record
+     * @param <T>      The type of elements
+     * @return an Iterable whose iterators are {@link MeteredIterator}s
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> metered(Iterable<T> iterable, IterationMetrics metrics) {
+        return fromSupplier(() -> new MeteredIterator<>(iterable.iterator(), metrics));
+    }
+
+    /**
+     * Peek at the iterable without modifying the result, handing each element to {@code peeker} to be consumed on its
+     * executor rather than inline.
+     * <p>
+     * Each iterator {@link AsyncPeeker#flush() flushes} the peeker when it is exhausted.
+     *
+     * @param iterable The iterable to peek at
+     * @param peeker   The asynchronous peeking function
+     * @param <T>      The type of elements
+     * @return an Iterable that, when traversed will hand each element to the peeker
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> peekAsync(Iterable<T> iterable, AsyncPeeker<? super T> peeker) {
+        return fromSupplier(() -> J8Iterators.peekAsync(iterable.iterator(), peeker));
+    }
+
+    /**
+     * Read ahead of each iteration, fetching batches of {@code iterable}'s iterator on {@code executor} into a bounded
+     * queue, so that a slow source is waited on while the caller processes earlier elements.
+     * <p>
+     * An iteration that stops early, such as {@link FluentIterable#first()}, {@link FluentIterable#limit(int)} or
+     * {@link FluentIterable#anyMatch(com.google.common.base.Predicate)}, cannot close its iterator, so its fetch keeps
+     * filling the queue, or stays blocked in the source, until the abandoned iterator is garbage collected. Where
+     * iterations may stop early, close the {@link PrefetchingIterator} from {@link Iterable#iterator()} when done, or
+     * use {@link J8Streams#prefetch(Stream, Executor, int, int)}, whose {@link Stream#close()} cancels the fetch.
+     *
+     * @param iterable  The iterable to read ahead of
+     * @param executor  The executor to fetch on, which must run the fetch on another thread
+     * @param capacity  The most elements fetched ahead of the caller
+     * @param batchSize The number of elements fetched and handed over at once
+     * @param <T>       The type of elements
+     * @return an Iterable whose iterators are {@link PrefetchingIterator}s
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> prefetch(Iterable<T> iterable, Executor executor, int capacity,
+                                                 int batchSize) {
+        return fromSupplier(() -> J8Iterators.prefetch(iterable.iterator(), executor, capacity, batchSize));
+    }
+
+    /**
+     * Peek at a sample of the iterable without modifying the result.
+     * <p>
+     * Unsampled elements cost a counter decrement and a branch, so this is suitable for logging or metrics on hot
+     * paths.
+     *
+     * @param iterable The iterable to peek at
+     * @param sampler  Chooses the elements to peek at, such as {@link PeekSampler#everyNth(long)}
+     * @param consumer The peeking function
+     * @param <T>      The type of elements
+     * @return an Iterable that, when traversed will invoke the consumer on sampled elements
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> peek(Iterable<T> iterable, PeekSampler sampler, Consumer<? super T> consumer) {
+        return fromSupplier(() -> new SamplingPeekIterator<>(iterable.iterator(), sampler, consumer));
+    }
+
     /**
      * Return a peeking transformer - a UnaryOperator that will send each element to the consumer and return identity.
      *
@@ -206,6 +615,8 @@ public class J8Iterables {
 
     /**
      * Create a one-time Iterable from a Stream.
+     * <p>
+     * Only one iterator may be obtained; see {@link #replayable(Stream)} to iterate more than once.
      *
      * @param stream The Stream to use in creating an Iterable
      * @param <T>    The type of elements
@@ -216,8 +627,45 @@ public class J8Iterables {
         return new StreamIterable<>(stream);
     }
 
+    /**
+     * Create an Iterable from a Stream that may be iterated any number of times, caching the elements in memory as they
+     * are first pulled.
+     *
+     * @param stream The Stream to use in creating an Iterable
+     * @param <T>    The type of elements
+     * @return replayable Iterable from the given stream, which should be closed to release the cache
+     */
+    @Nonnull
+    public static <T> ReplayableStreamIterable<T> replayable(Stream<T> stream) {
+        return new ReplayableStreamIterable<>(stream);
+    }
+
+    /**
+     * Create an Iterable from a Stream that may be iterated any number of times, caching at most
+     * {@code maxChunksInMemory} chunks of {@code chunkSize} elements in memory and spilling older chunks to a temporary
+     * file with {@code codec}.
+     *
+     * @param stream            The Stream to use in creating an Iterable
+     * @param chunkSize         The number of elements per chunk
+     * @param maxChunksInMemory The most chunks cached in memory
+     * @param codec             The codec to spill elements with
+     * @param tempDir           The directory for the spill file, or {@code null} for the default temporary-file
+     *                          directory
+     * @param <T>               The type of elements
+     * @return replayable Iterable from the given stream, which should be closed to delete the spill file
+     */
+    @Nonnull
+    public static <T> ReplayableStreamIterable<T> replayable(Stream<T> stream, int chunkSize, int maxChunksInMemory,
+                                                             SpillCodec<T> codec, @Nullable Path tempDir) {
+        return new ReplayableStreamIterable<>(stream, chunkSize, maxChunksInMemory, codec, tempDir);
+    }
+
     /**
      * Create a {@link Stream} from the given {@link Iterable}.
+     * <p>
+     * Iterables that implement {@link KnownCharacteristics} get a late-binding stream, which does not call
+     * {@link Iterable#spliterator()} until the terminal operation begins. A {@link StreamIterable} returns the stream
+     * it was created from.
      *
      * @param iterable The Iterable to use in creating a Stream
      * @param <T>      The type of elements
@@ -227,44 +675,63 @@ public class J8Iterables {
     public static <T> Stream<T> toStream(Iterable<T> iterable) {
         if (iterable instanceof Collection) {
             return ((Collection<T>) iterable).stream();
+        } else if (iterable instanceof StreamIterable) {
+            return ((StreamIterable<T>) iterable).stream().sequential();
+        } else if (iterable instanceof KnownCharacteristics) {
+            return StreamSupport.stream(iterable::spliterator,
+                    ((KnownCharacteristics) iterable).characteristics(), false);
         }
-        // TODO(scr): Is it possible to do late-binding (iterable::spliterator)? Need to know characteristics.
         return StreamSupport.stream(iterable.spliterator(), false);
     }
 
     /**
      * Create an {@link DoubleStream} from the given {@code doubleIterable}.
+     * <p>
+     * Iterables that implement {@link KnownCharacteristics} get a late-binding stream.
      *
      * @param doubleIterable The iterable to use in creating a DoubleStream
      * @return DoubleStream from the given iterable
      */
     @Nonnull
     public static DoubleStream toStream(J8PrimitiveIterable.OfDouble doubleIterable) {
-        // TODO(scr): Is it possible to do late-binding (iterable::spliterator)? Need to know characteristics.
+        if (doubleIterable instanceof KnownCharacteristics) {
+            return StreamSupport.doubleStream(doubleIterable::primitiveSpliterator,
+                    ((KnownCharacteristics) doubleIterable).characteristics(), false);
+        }
         return StreamSupport.doubleStream(doubleIterable.primitiveSpliterator(), false);
     }
 
     /**
      * Create an {@link IntStream} from the given {@code intIterable}.
+     * <p>
+     * Iterables that implement {@link KnownCharacteristics} get a late-binding stream.
      *
      * @param intIterable The iterable to use in creating an IntStream
      * @return IntStream from the given iterable
      */
     @Nonnull
     public static IntStream toStream(J8PrimitiveIterable.OfInt intIterable) {
-        // TODO(scr): Is it possible to do late-binding (iterable::spliterator)? Need to know characteristics.
+        if (intIterable instanceof KnownCharacteristics) {
+            return StreamSupport.intStream(intIterable::primitiveSpliterator,
+                    ((KnownCharacteristics) intIterable).characteristics(), false);
+        }
         return StreamSupport.intStream(intIterable.primitiveSpliterator(), false);
     }
 
     /**
      * Create a {@link LongStream} from the given {@code iterable}.
+     * <p>
+     * Iterables that implement {@link KnownCharacteristics} get a late-binding stream.
      *
      * @param longIterable The iterable to use in creating a LongStream
      * @return LongStream from the given iterable
      */
     @Nonnull
     public static LongStream toStream(J8PrimitiveIterable.OfLong longIterable) {
-        // TODO(scr): Is it possible to do late-binding (iterable::spliterator)? Need to know characteristics.
+        if (longIterable instanceof KnownCharacteristics) {
+            return StreamSupport.longStream(longIterable::primitiveSpliterator,
+                    ((KnownCharacteristics) longIterable).characteristics(), false);
+        }
         return StreamSupport.longStream(longIterable.primitiveSpliterator(), false);
     }
 
@@ -284,15 +751,31 @@ public class J8Iterables {
      * Create a FluentIterable for elements.
      * <p>
      * Provides a wrapper to help where {@link FluentIterable} falls short - no varargs static constructor for testing.
+     * The result is an {@link ArrayIterable} that shares the {@code elements} array rather than copying it, so changes
+     * to an array passed explicitly show through; use {@link #ofArray(Object[])} to get its array views directly.
      *
      * @param elements the elements to iterate over
      * @param <T>      the type of elements
      * @return a FluentIterable for elements
      */
     @SafeVarargs
+    @SuppressWarnings("varargs") // ArrayIterable only reads the array and never hands it out as a T[].
     @Nonnull
     public static <T> FluentIterable<T> of(T... elements) {
-        return FluentIterable.from(Arrays.asList(elements));
+        return new ArrayIterable<>(elements);
+    }
+
+    /**
+     * Create an {@link ArrayIterable} over {@code array}, which offers constant-time slices and sized, evenly splitting
+     * spliterators.
+     *
+     * @param array the elements to iterate over, which are shared rather than copied
+     * @param <T>   the type of elements
+     * @return an ArrayIterable for the array
+     */
+    @Nonnull
+    public static <T> ArrayIterable<T> ofArray(T[] array) {
+        return new ArrayIterable<>(array);
     }
 
     /**
@@ -304,11 +787,18 @@ public class J8Iterables {
      */
     @Nonnull
     public static <T> FluentIterable<T> reverse(Iterable<? extends T> iterable) {
+        if (iterable instanceof ArrayIterable) {
+            return reverse(((ArrayIterable<? extends T>) iterable).asList());
+        }
         // If it's already reversable, return it.
         if (iterable instanceof NavigableSet) {
             @SuppressWarnings("unchecked")
             NavigableSet<T> navigableSet = (NavigableSet<T>) iterable;
-            return fromSupplier(navigableSet::descendingIterator);
+            // The descending set's spliterator splits by descending subsets (e.g. subtrees of a TreeSet), and reports
+            // what the set guarantees, such as SIZED for a TreeSet.
+            return new SupplierIterable<>(navigableSet::descendingIterator,
+                    () -> navigableSet.descendingSet().spliterator(),
+                    navigableSet.descendingSet().spliterator().characteristics());
         } else if (iterable instanceof Deque) {
             @SuppressWarnings("unchecked")
             Deque<T> deque = (Deque<T>) iterable;
@@ -316,6 +806,10 @@ public class J8Iterables {
         } else if (iterable instanceof List) {
             @SuppressWarnings("unchecked")
             List<T> list = (List<T>) iterable;
+            if (list instanceof RandomAccess) {
+                return new SupplierIterable<>(() -> J8Iterators.reverse(list.listIterator(list.size())),
+                        () -> new ReverseListSpliterator<>(list), ReverseListSpliterator.CHARACTERISTICS);
+            }
             return fromSupplier(() -> J8Iterators.reverse(list.listIterator(list.size())));
         }
         // Slurp everything into a deque and then reverse its order.
@@ -326,6 +820,75 @@ public class J8Iterables {
         });
     }
 
+    /**
+     * Reverse the given {@code iterable} while holding at most {@code chunkSize} elements in memory, spilling the rest
+     * to a file in the default temporary-file directory.
+     *
+     * @param iterable  an iterable to reverse
+     * @param chunkSize the most elements held in memory by each iterator
+     * @param codec     the codec to spill elements with
+     * @param <T>       the type of elements
+     * @return an iterable whose iterators are {@link SpillingReverseIterator}s
+     * @see #reverse(Iterable, int, SpillCodec, Path)
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> reverse(Iterable<? extends T> iterable, int chunkSize, SpillCodec<T> codec) {
+        return reverse(iterable, chunkSize, codec, null);
+    }
+
+    /**
+     * Reverse the given {@code iterable} while holding at most {@code chunkSize} elements in memory, spilling the rest
+     * to a file in {@code tempDir}.
+     * <p>
+     * Each iteration reads the whole source once before returning its last element. The file is deleted when an
+     * iterator is exhausted; iterators that may be abandoned early should be closed (they are
+     * {@link SpillingReverseIterator}s).
+     *
+     * @param iterable  an iterable to reverse
+     * @param chunkSize the most elements held in memory by each iterator
+     * @param codec     the codec to spill elements with
+     * @param tempDir   the directory for spill files, or {@code null} for the default temporary-file directory
+     * @param <T>       the type of elements
+     * @return an iterable whose iterators are {@link SpillingReverseIterator}s
+     */
+    @Nonnull
+    public static <T> FluentIterable<T> reverse(Iterable<? extends T> iterable, int chunkSize, SpillCodec<T> codec,
+                                                @Nullable Path tempDir) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        return fromSupplier(() -> J8Iterators.reverse(iterable.iterator(), chunkSize, codec, tempDir));
+    }
+
+    /**
+     * Reverse the given {@code iterable}, copying it only once rather than on every iteration.
+     * <p>
+     * Unlike {@link #reverse(Iterable)}, the copy is reused until {@link MemoizedReverseIterable#invalidate()} is called
+     * or the garbage collector releases it, so changes to {@code iterable} are not seen until then. Lists, deques and
+     * navigable sets can be reversed without copying by {@link #reverse(Iterable)}.
+     *
+     * @param iterable an iterable to reverse
+     * @param <T>      the type of elements
+     * @return an iterable that reverses a memoized copy of the iterable
+     */
+    @Nonnull
+    public static <T> MemoizedReverseIterable<T> reverseMemoized(Iterable<? extends T> iterable) {
+        return new MemoizedReverseIterable<>(iterable);
+    }
+
+    /**
+     * Reverse the given {@code iterable}, copying it again only when {@code version} changes.
+     *
+     * @param iterable an iterable to reverse
+     * @param version  supplies a value, such as a modification count, that changes whenever {@code iterable} does
+     * @param <T>      the type of elements
+     * @return an iterable that reverses a memoized copy of the iterable
+     */
+    @Nonnull
+    public static <T> MemoizedReverseIterable<T> reverseMemoized(Iterable<? extends T> iterable, LongSupplier version) {
+        return new MemoizedReverseIterable<>(iterable, version);
+    }
+
     /**
      * Create a {@link FluentIterable} from the given {@link Supplier}.
      *
@@ -335,15 +898,183 @@ public class J8Iterables {
      */
     @Nonnull
     public static <T> SupplierIterable<T> fromSupplier(Supplier<Iterator<? extends T>> supplier) {
+        return fromSupplier(supplier, 0);
+    }
+
+    /**
+     * Create a {@link FluentIterable} from the given {@link Supplier}, whose spliterators report
+     * {@code characteristics}.
+     *
+     * @param supplier        the supplier
+     * @param characteristics the spliterator characteristics of the supplied iterators, such as
+     *                        {@link Spliterator#ORDERED}
+     * @param <T>             the type of elements of the supplied iterable
+     * @return an iterable
+     * @see SupplierIterable#SupplierIterable(Supplier, int)
+     */
+    @Nonnull
+    public static <T> SupplierIterable<T> fromSupplier(Supplier<Iterator<? extends T>> supplier,
+                                                       int characteristics) {
         @SuppressWarnings("unchecked")
         Supplier<Iterator<T>> tSupplier = (Supplier<Iterator<T>>) (Supplier) supplier;
-        return new SupplierIterable<>(tSupplier);
+        return new SupplierIterable<>(tSupplier, characteristics);
     }
 
+    /**
+     * Create a {@link FluentIterable} from the given {@link Supplier} of iterators of a size known without iterating,
+     * whose spliterators are {@link Spliterator#SIZED} and report {@code characteristics}.
+     *
+     * @param supplier        the supplier
+     * @param sizeSupplier    the exact number of elements the next supplied iterator will have
+     * @param characteristics the spliterator characteristics of the supplied iterators, such as
+     *                        {@link Spliterator#ORDERED}
+     * @param <T>             the type of elements of the supplied iterable
+     * @return an iterable
+     * @see #size(Iterable)
+     */
+    @Nonnull
+    public static <T> SupplierIterable<T> fromSupplier(Supplier<Iterator<? extends T>> supplier,
+                                                       LongSupplier sizeSupplier, int characteristics) {
+        return fromSupplier(supplier, null, sizeSupplier, characteristics);
+    }
+
+    /**
+     * Create a {@link FluentIterable} from the given {@link Supplier}s of iterators and of spliterators over the same
+     * elements, such as ones that split evenly.
+     *
+     * @param supplier            the supplier
+     * @param spliteratorSupplier the supplier of spliterators, or {@code null} to split off batches of the iterators
+     * @param sizeSupplier        the exact number of elements the next iterator or spliterator will have, or
+     *                            {@code null} if unknown
+     * @param characteristics     the characteristics of the supplied iterators or spliterators
+     * @param <T>                 the type of elements of the supplied iterable
+     * @return an iterable
+     * @see SupplierIterable#SupplierIterable(Supplier, Supplier, LongSupplier, int)
+     */
+    @Nonnull
+    public static <T> SupplierIterable<T> fromSupplier(Supplier<Iterator<? extends T>> supplier,
+                                                       @Nullable Supplier<Spliterator<T>> spliteratorSupplier,
+                                                       @Nullable LongSupplier sizeSupplier, int characteristics) {
+        @SuppressWarnings("unchecked")
+        Supplier<Iterator<T>> tSupplier = (Supplier<Iterator<T>>) (Supplier) supplier;
+        return new SupplierIterable<>(tSupplier, spliteratorSupplier, sizeSupplier, characteristics);
+    }
+
+    /**
+     * The number of elements of {@code iterable}, if known without iterating: the size of a {@link Collection}, the
+     * {@link SupplierIterable#sizeIfKnown()} of a {@link SupplierIterable}, or else the exact size of the spliterator of a
+     * {@link KnownCharacteristics} iterable that is {@link Spliterator#SIZED}.
+     *
+     * @param iterable the iterable
+     * @return the number of elements, or {@code -1} if unknown without iterating
+     */
+    public static long sizeIfKnown(Iterable<?> iterable) {
+        if (iterable instanceof Collection) {
+            return ((Collection<?>) iterable).size();
+        }
+        if (iterable instanceof SupplierIterable) {
+            long size = ((SupplierIterable<?>) iterable).sizeIfKnown();
+            if (size >= 0) {
+                return size;
+            }
+        }
+        if (iterable instanceof KnownCharacteristics &&
+                (((KnownCharacteristics) iterable).characteristics() & Spliterator.SIZED) != 0) {
+            return iterable.spliterator().getExactSizeIfKnown();
+        }
+        return -1;
+    }
+
+    /**
+     * The number of elements of {@code iterable}, without iterating if the size is known.
+     * <p>
+     * Unlike {@link FluentIterable#size()} and {@link Iterables#size(Iterable)}, this uses
+     * {@link #sizeIfKnown(Iterable)}.
+     *
+     * @param iterable the iterable
+     * @return the number of elements
+     */
+    public static long size(Iterable<?> iterable) {
+        long size = sizeIfKnown(iterable);
+        if (size >= 0) {
+            return size;
+        }
+        Iterator<?> iterator = iterable.iterator();
+        long count = 0;
+        for (; iterator.hasNext(); iterator.next()) {
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Whether {@code iterable} has no elements, without creating an iterator if the size is known.
+     *
+     * @param iterable the iterable
+     * @return {@code true} if there are no elements
+     * @see #sizeIfKnown(Iterable)
+     */
+    public static boolean isEmpty(Iterable<?> iterable) {
+        long size = sizeIfKnown(iterable);
+        return size >= 0 ? size == 0 : !iterable.iterator().hasNext();
+    }
+
+    /**
+     * Copy the elements of {@code iterable} into a new array, allocated once at the right size if the size is known.
+     *
+     * @param iterable the iterable
+     * @param type     the component type of the array
+     * @param <T>      the type of elements
+     * @return an array of the elements
+     * @see #sizeIfKnown(Iterable)
+     */
+    @Nonnull
+    public static <T> T[] toArray(Iterable<? extends T> iterable, Class<T> type) {
+        long size = sizeIfKnown(iterable);
+        if (iterable instanceof Collection || size < 0 || size > Integer.MAX_VALUE - 8) {
+            return Iterables.toArray(iterable, type);
+        }
+        T[] array = ObjectArrays.newArray(type, (int) size);
+        int i = 0;
+        for (T t : iterable) {
+            if (i == array.length) {
+                // The size was wrong; grow rather than fail.
+                array = Arrays.copyOf(array, Math.max(16, i + (i >> 1)));
+            }
+            array[i++] = t;
+        }
+        return i == array.length ? array : Arrays.copyOf(array, i);
+    }
+
+    /**
+     * Map each element of {@code iterable} to a {@code double}, lazily and without boxing.
+     * <p>
+     * The result is a {@link FluentDoubleIterable}; to have it typed as one, use
+     * {@link #mapToFluentDouble(Iterable, ToDoubleFunction)}.
+     *
+     * @param iterable         the iterable to map
+     * @param toDoubleFunction the function to map each element with
+     * @param <T>              the type of elements
+     * @return a primitive iterable of the mapped values
+     */
     @Nonnull
     public static <T> J8PrimitiveIterable.OfDouble mapToDouble(
             Iterable<T> iterable, ToDoubleFunction<T> toDoubleFunction) {
-        return new J8PrimitiveIterable.OfDouble() {
+        return mapToFluentDouble(iterable, toDoubleFunction);
+    }
+
+    /**
+     * Map each element of {@code iterable} to a {@code double}, lazily and without boxing, as a fluent iterable.
+     *
+     * @param iterable         the iterable to map
+     * @param toDoubleFunction the function to map each element with
+     * @param <T>              the type of elements
+     * @return a fluent primitive iterable of the mapped values
+     */
+    @Nonnull
+    public static <T> FluentDoubleIterable mapToFluentDouble(
+            Iterable<T> iterable, ToDoubleFunction<T> toDoubleFunction) {
+        return new FluentDoubleIterable() {
             @Override
             public PrimitiveIterator.OfDouble primitiveIterator() {
                 return J8Iterators.mapToDouble(iterable.iterator(), toDoubleFunction);
@@ -356,10 +1087,35 @@ public class J8Iterables {
         };
     }
 
+    /**
+     * Map each element of {@code iterable} to a {@code int}, lazily and without boxing.
+     * <p>
+     * The result is a {@link FluentIntIterable}; to have it typed as one, use
+     * {@link #mapToFluentInt(Iterable, ToIntFunction)}.
+     *
+     * @param iterable      the iterable to map
+     * @param toIntFunction the function to map each element with
+     * @param <T>           the type of elements
+     * @return a primitive iterable of the mapped values
+     */
     @Nonnull
     public static <T> J8PrimitiveIterable.OfInt mapToInt(
             Iterable<T> iterable, ToIntFunction<T> toIntFunction) {
-        return new J8PrimitiveIterable.OfInt() {
+        return mapToFluentInt(iterable, toIntFunction);
+    }
+
+    /**
+     * Map each element of {@code iterable} to a {@code int}, lazily and without boxing, as a fluent iterable.
+     *
+     * @param iterable      the iterable to map
+     * @param toIntFunction the function to map each element with
+     * @param <T>           the type of elements
+     * @return a fluent primitive iterable of the mapped values
+     */
+    @Nonnull
+    public static <T> FluentIntIterable mapToFluentInt(
+            Iterable<T> iterable, ToIntFunction<T> toIntFunction) {
+        return new FluentIntIterable() {
             @Override
             public PrimitiveIterator.OfInt primitiveIterator() {
                 return J8Iterators.mapToInt(iterable.iterator(), toIntFunction);
@@ -372,10 +1128,35 @@ public class J8Iterables {
         };
     }
 
+    /**
+     * Map each element of {@code iterable} to a {@code long}, lazily and without boxing.
+     * <p>
+     * The result is a {@link FluentLongIterable}; to have it typed as one, use
+     * {@link #mapToFluentLong(Iterable, ToLongFunction)}.
+     *
+     * @param iterable       the iterable to map
+     * @param toLongFunction the function to map each element with
+     * @param <T>            the type of elements
+     * @return a primitive iterable of the mapped values
+     */
     @Nonnull
     public static <T> J8PrimitiveIterable.OfLong mapToLong(
             Iterable<T> iterable, ToLongFunction<T> toLongFunction) {
-        return new J8PrimitiveIterable.OfLong() {
+        return mapToFluentLong(iterable, toLongFunction);
+    }
+
+    /**
+     * Map each element of {@code iterable} to a {@code long}, lazily and without boxing, as a fluent iterable.
+     *
+     * @param iterable       the iterable to map
+     * @param toLongFunction the function to map each element with
+     * @param <T>            the type of elements
+     * @return a fluent primitive iterable of the mapped values
+     */
+    @Nonnull
+    public static <T> FluentLongIterable mapToFluentLong(
+            Iterable<T> iterable, ToLongFunction<T> toLongFunction) {
+        return new FluentLongIterable() {
             @Override
             public PrimitiveIterator.OfLong primitiveIterator() {
                 return J8Iterators.mapToLong(iterable.iterator(), toLongFunction);
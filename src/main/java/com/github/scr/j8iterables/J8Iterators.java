@@ -1,8 +1,17 @@
 package com.github.scr.j8iterables;
 
+import com.github.scr.j8iterables.core.AsyncPeeker;
 import com.github.scr.j8iterables.core.Ends;
+import com.github.scr.j8iterables.core.IterationMetrics;
+import com.github.scr.j8iterables.core.IterationMetricsRegistry;
+import com.github.scr.j8iterables.core.MeteredIterator;
 import com.github.scr.j8iterables.core.PeekIterator;
+import com.github.scr.j8iterables.core.PeekSampler;
+import com.github.scr.j8iterables.core.PrefetchingIterator;
 import com.github.scr.j8iterables.core.PreviousListIterator;
+import com.github.scr.j8iterables.core.SamplingPeekIterator;
+import com.github.scr.j8iterables.core.SpillCodec;
+import com.github.scr.j8iterables.core.SpillingReverseIterator;
 import com.github.scr.j8iterables.core.ToDoubleIterator;
 import com.github.scr.j8iterables.core.ToIntIterator;
 import com.github.scr.j8iterables.core.ToLongIterator;
@@ -10,10 +19,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterators;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Optional;
 import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
@@ -41,7 +54,26 @@ public class J8Iterators {
      */
     @Nonnull
     public static <T> Stream<T> toStream(Iterator<T> iterator) {
-        return StreamSupport.stream(((Iterable<T>) () -> iterator).spliterator(), false);
+        return toStream(iterator, Long.MAX_VALUE, false);
+    }
+
+    /**
+     * Create a Stream from an iterator whose size is roughly known.
+     * <p>
+     * The stream's spliterator splits off geometrically growing batches sized for the expected number of elements, so
+     * that parallel streams spread the work across the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param iterator     The iterator to create a Stream from
+     * @param expectedSize A hint of the number of elements, or {@link Long#MAX_VALUE} if unknown
+     * @param parallel     Whether the stream should be parallel
+     * @param <T>          The type of element
+     * @return A Stream object from given iterator.
+     * @see J8Spliterators#fromIterator(Iterator, long, int, int, int)
+     */
+    @Nonnull
+    public static <T> Stream<T> toStream(Iterator<T> iterator, long expectedSize, boolean parallel) {
+        return StreamSupport.stream(
+                J8Spliterators.fromIterator(iterator, expectedSize, Spliterator.ORDERED), parallel);
     }
 
     /**
@@ -73,6 +105,65 @@ public class J8Iterators {
         return new PeekIterator<>(iterator, consumer);
     }
 
+    /**
+     * Record {@link IterationMetrics} named {@code name} in the default {@link IterationMetricsRegistry} about
+     * {@code iterator}.
+     *
+     * @param iterator the original iterator
+     * @param name     the name of the metrics
+     * @param <T>      the type of element in the iterator
+     * @return a metered iterator
+     */
+    @Nonnull
+    public static <T> MeteredIterator<T> metered(Iterator<T> iterator, String name) {
+        return new MeteredIterator<>(iterator, IterationMetricsRegistry.getDefault().metrics(name));
+    }
+
+    /**
+     * Peek at the iterator without modifying the result, handing each element to {@code peeker} to be consumed on its
+     * executor rather than inline.
+     *
+     * @param iterator the original iterator
+     * @param peeker   the asynchronous consumer, which is flushed when the iterator is exhausted
+     * @param <T>      the type of element in the iterator
+     * @return an iterator which hands every element to peeker before returning to the caller
+     */
+    @Nonnull
+    public static <T> Iterator<T> peekAsync(Iterator<T> iterator, AsyncPeeker<? super T> peeker) {
+        return new PeekIterator<>(iterator, peeker, peeker::flush);
+    }
+
+    /**
+     * Read ahead of the caller, fetching batches of {@code iterator} on {@code executor} into a bounded queue, so that
+     * a slow source is waited on while the caller processes earlier elements.
+     *
+     * @param iterator  the original iterator, which must not be used again
+     * @param executor  the executor to fetch on, which must run the fetch on another thread
+     * @param capacity  the most elements fetched ahead of the caller
+     * @param batchSize the number of elements fetched and handed over at once
+     * @param <T>       the type of element in the iterator
+     * @return an iterator over the same elements, which should be closed if not exhausted
+     */
+    @Nonnull
+    public static <T> PrefetchingIterator<T> prefetch(Iterator<T> iterator, Executor executor, int capacity,
+                                                      int batchSize) {
+        return new PrefetchingIterator<>(iterator, executor, capacity, batchSize);
+    }
+
+    /**
+     * Peek at a sample of the iterator without modifying the result.
+     *
+     * @param iterator the original iterator
+     * @param sampler  chooses the elements to peek at, such as {@link PeekSampler#everyNth(long)}
+     * @param consumer the consumer to peek at sampled elements
+     * @param <T>      the type of element in the iterator
+     * @return an iterator which sends sampled elements through consumer before returning to the caller
+     */
+    @Nonnull
+    public static <T> Iterator<T> peek(Iterator<T> iterator, PeekSampler sampler, Consumer<? super T> consumer) {
+        return new SamplingPeekIterator<>(iterator, sampler, consumer);
+    }
+
     /**
      * Iterate a {@link ListIterator} in reverse order.
      *
@@ -86,6 +177,23 @@ public class J8Iterators {
         return new PreviousListIterator<>((ListIterator<T>) listIterator);
     }
 
+    /**
+     * Iterate {@code iterator} in reverse order while holding at most {@code chunkSize} elements in memory, spilling the
+     * rest to a temporary file.
+     *
+     * @param iterator  the iterator to reverse
+     * @param chunkSize the most elements held in memory
+     * @param codec     the codec to spill elements with
+     * @param tempDir   the directory for the spill file, or {@code null} for the default temporary-file directory
+     * @param <T>       the type of elements
+     * @return an iterator that should be closed if it is not exhausted
+     */
+    @Nonnull
+    public static <T> SpillingReverseIterator<T> reverse(Iterator<? extends T> iterator, int chunkSize,
+                                                         SpillCodec<T> codec, @Nullable Path tempDir) {
+        return new SpillingReverseIterator<>(iterator, chunkSize, codec, tempDir);
+    }
+
     @Nonnull
     public static <T> PrimitiveIterator.OfInt mapToInt(
             Iterator<T> iterator, ToIntFunction<T> toIntFunction) {
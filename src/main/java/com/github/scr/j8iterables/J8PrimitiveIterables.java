@@ -0,0 +1,775 @@
+package com.github.scr.j8iterables;
+
+import com.github.scr.j8iterables.core.DoubleArrayIterable;
+import com.github.scr.j8iterables.core.DoubleBufferIterable;
+import com.github.scr.j8iterables.core.FluentDoubleIterable;
+import com.github.scr.j8iterables.core.FluentIntIterable;
+import com.github.scr.j8iterables.core.FluentLongIterable;
+import com.github.scr.j8iterables.core.IntArrayIterable;
+import com.github.scr.j8iterables.core.IntBufferIterable;
+import com.github.scr.j8iterables.core.IterationMetrics;
+import com.github.scr.j8iterables.core.IterationMetricsRegistry;
+import com.github.scr.j8iterables.core.J8PrimitiveIterable;
+import com.github.scr.j8iterables.core.KnownCharacteristics;
+import com.github.scr.j8iterables.core.LongArrayIterable;
+import com.github.scr.j8iterables.core.LongBufferIterable;
+import com.github.scr.j8iterables.core.MeteredIterator;
+import com.google.common.annotations.VisibleForTesting;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Utility methods for creating array- and buffer-backed {@link J8PrimitiveIterable}s and performing terminal operations
+ * on them without boxing or building a stream.
+ *
+ * @author scr
+ */
+@SuppressWarnings("WeakerAccess")
+public class J8PrimitiveIterables {
+    /**
+     * The largest region of a file mapped into one buffer by {@link #mapInts(Path, ByteOrder)} and friends.
+     */
+    public static final int MAX_MAPPED_SEGMENT_BYTES = 1 << 30;
+
+    @VisibleForTesting
+    J8PrimitiveIterables() {
+    }
+
+    /**
+     * Create an iterable over {@code values}, which is shared rather than copied.
+     *
+     * @param values the ints to iterate
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static IntArrayIterable of(int... values) {
+        return new IntArrayIterable(values);
+    }
+
+    /**
+     * Create an iterable over {@code values}, which is shared rather than copied.
+     *
+     * @param values the longs to iterate
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static LongArrayIterable of(long... values) {
+        return new LongArrayIterable(values);
+    }
+
+    /**
+     * Create an iterable over {@code values}, which is shared rather than copied.
+     *
+     * @param values the doubles to iterate
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static DoubleArrayIterable of(double... values) {
+        return new DoubleArrayIterable(values);
+    }
+
+    /**
+     * Create a builder of an array-backed int iterable.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static IntArrayIterable.Builder intBuilder() {
+        return IntArrayIterable.builder();
+    }
+
+    /**
+     * Create a builder of an array-backed long iterable.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static LongArrayIterable.Builder longBuilder() {
+        return LongArrayIterable.builder();
+    }
+
+    /**
+     * Create a builder of an array-backed double iterable.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static DoubleArrayIterable.Builder doubleBuilder() {
+        return DoubleArrayIterable.builder();
+    }
+
+    /**
+     * Record {@link IterationMetrics} named {@code name} in the default {@link IterationMetricsRegistry} about each
+     * iteration of {@code intIterable}.
+     *
+     * @param intIterable The iterable to meter
+     * @param name         The name of the metrics
+     * @return a metered view of the iterable
+     */
+    @Nonnull
+    public static FluentIntIterable metered(J8PrimitiveIterable.OfInt intIterable, String name) {
+        IterationMetrics metrics = IterationMetricsRegistry.getDefault().metrics(name);
+        return new FluentIntIterable() {
+            @Override
+            public PrimitiveIterator.OfInt primitiveIterator() {
+                return new MeteredIterator.OfInt(intIterable.primitiveIterator(), metrics);
+            }
+        };
+    }
+
+    /**
+     * Record {@link IterationMetrics} named {@code name} in the default {@link IterationMetricsRegistry} about each
+     * iteration of {@code longIterable}.
+     *
+     * @param longIterable The iterable to meter
+     * @param name          The name of the metrics
+     * @return a metered view of the iterable
+     */
+    @Nonnull
+    public static FluentLongIterable metered(J8PrimitiveIterable.OfLong longIterable, String name) {
+        IterationMetrics metrics = IterationMetricsRegistry.getDefault().metrics(name);
+        return new FluentLongIterable() {
+            @Override
+            public PrimitiveIterator.OfLong primitiveIterator() {
+                return new MeteredIterator.OfLong(longIterable.primitiveIterator(), metrics);
+            }
+        };
+    }
+
+    /**
+     * Record {@link IterationMetrics} named {@code name} in the default {@link IterationMetricsRegistry} about each
+     * iteration of {@code doubleIterable}.
+     *
+     * @param doubleIterable The iterable to meter
+     * @param name            The name of the metrics
+     * @return a metered view of the iterable
+     */
+    @Nonnull
+    public static FluentDoubleIterable metered(J8PrimitiveIterable.OfDouble doubleIterable, String name) {
+        IterationMetrics metrics = IterationMetricsRegistry.getDefault().metrics(name);
+        return new FluentDoubleIterable() {
+            @Override
+            public PrimitiveIterator.OfDouble primitiveIterator() {
+                return new MeteredIterator.OfDouble(doubleIterable.primitiveIterator(), metrics);
+            }
+        };
+    }
+
+    /**
+     * Sum the ints of the iterable.
+     *
+     * @param intIterable The iterable
+     * @return the sum
+     * @see IntStream#sum()
+     */
+    public static int sum(J8PrimitiveIterable.OfInt intIterable) {
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    /**
+     * Sum the longs of the iterable.
+     *
+     * @param longIterable The iterable
+     * @return the sum
+     * @see LongStream#sum()
+     */
+    public static long sum(J8PrimitiveIterable.OfLong longIterable) {
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    /**
+     * Sum the doubles of the iterable using compensated summation.
+     *
+     * @param doubleIterable The iterable
+     * @return the sum
+     * @see DoubleStream#sum()
+     */
+    public static double sum(J8PrimitiveIterable.OfDouble doubleIterable) {
+        PrimitiveIterator.OfDouble iterator = doubleIterable.primitiveIterator();
+        double sum = 0;
+        double compensation = 0;
+        double simpleSum = 0;
+        while (iterator.hasNext()) {
+            double value = iterator.nextDouble();
+            simpleSum += value;
+            double y = value - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+        }
+        // Like DoubleSummaryStatistics, prefer the simple sum when the compensated one is NaN due to infinities.
+        return Double.isNaN(sum) && Double.isInfinite(simpleSum) ? simpleSum : sum;
+    }
+
+    /**
+     * Count the ints of the iterable.
+     *
+     * @param intIterable The iterable
+     * @return the count
+     * @see IntStream#count()
+     */
+    public static long count(J8PrimitiveIterable.OfInt intIterable) {
+        if (isSized(intIterable)) {
+            return intIterable.primitiveSpliterator().getExactSizeIfKnown();
+        }
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        long count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextInt();
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Count the longs of the iterable.
+     *
+     * @param longIterable The iterable
+     * @return the count
+     * @see LongStream#count()
+     */
+    public static long count(J8PrimitiveIterable.OfLong longIterable) {
+        if (isSized(longIterable)) {
+            return longIterable.primitiveSpliterator().getExactSizeIfKnown();
+        }
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        long count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextLong();
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Count the doubles of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @return the count
+     * @see DoubleStream#count()
+     */
+    public static long count(J8PrimitiveIterable.OfDouble doubleIterable) {
+        if (isSized(doubleIterable)) {
+            return doubleIterable.primitiveSpliterator().getExactSizeIfKnown();
+        }
+        PrimitiveIterator.OfDouble iterator = doubleIterable.primitiveIterator();
+        long count = 0;
+        while (iterator.hasNext()) {
+            iterator.nextDouble();
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Create an iterable over the remaining ints of {@code segments}, which may be views of direct or memory-mapped
+     * buffers.
+     *
+     * @param segments the buffers to iterate, in order
+     * @return a buffer-backed iterable
+     */
+    @Nonnull
+    public static IntBufferIterable wrap(IntBuffer... segments) {
+        return new IntBufferIterable(segments);
+    }
+
+    /**
+     * Create an iterable over the remaining longs of {@code segments}, which may be views of direct or memory-mapped
+     * buffers.
+     *
+     * @param segments the buffers to iterate, in order
+     * @return a buffer-backed iterable
+     */
+    @Nonnull
+    public static LongBufferIterable wrap(LongBuffer... segments) {
+        return new LongBufferIterable(segments);
+    }
+
+    /**
+     * Create an iterable over the remaining doubles of {@code segments}, which may be views of direct or memory-mapped
+     * buffers.
+     *
+     * @param segments the buffers to iterate, in order
+     * @return a buffer-backed iterable
+     */
+    @Nonnull
+    public static DoubleBufferIterable wrap(DoubleBuffer... segments) {
+        return new DoubleBufferIterable(segments);
+    }
+
+    /**
+     * Memory-map the file at {@code path} read-only as ints, so they are read from the page cache rather than the
+     * heap.
+     *
+     * @param path      the file of ints
+     * @param byteOrder the byte order of the file
+     * @return an iterable over the ints of the file; trailing bytes that do not make up a whole int are ignored
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    @Nonnull
+    public static IntBufferIterable mapInts(Path path, ByteOrder byteOrder) throws IOException {
+        List<MappedByteBuffer> mapped = map(path, Integer.BYTES);
+        IntBuffer[] segments = new IntBuffer[mapped.size()];
+        for (int i = 0; i < segments.length; ++i) {
+            segments[i] = mapped.get(i).order(byteOrder).asIntBuffer();
+        }
+        return new IntBufferIterable(segments);
+    }
+
+    /**
+     * Memory-map the file at {@code path} read-only as longs, so they are read from the page cache rather than the
+     * heap.
+     *
+     * @param path      the file of longs
+     * @param byteOrder the byte order of the file
+     * @return an iterable over the longs of the file; trailing bytes that do not make up a whole long are ignored
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    @Nonnull
+    public static LongBufferIterable mapLongs(Path path, ByteOrder byteOrder) throws IOException {
+        List<MappedByteBuffer> mapped = map(path, Long.BYTES);
+        LongBuffer[] segments = new LongBuffer[mapped.size()];
+        for (int i = 0; i < segments.length; ++i) {
+            segments[i] = mapped.get(i).order(byteOrder).asLongBuffer();
+        }
+        return new LongBufferIterable(segments);
+    }
+
+    /**
+     * Memory-map the file at {@code path} read-only as doubles, so they are read from the page cache rather than the
+     * heap.
+     *
+     * @param path      the file of doubles
+     * @param byteOrder the byte order of the file
+     * @return an iterable over the doubles of the file; trailing bytes that do not make up a whole double are ignored
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    @Nonnull
+    public static DoubleBufferIterable mapDoubles(Path path, ByteOrder byteOrder) throws IOException {
+        List<MappedByteBuffer> mapped = map(path, Double.BYTES);
+        DoubleBuffer[] segments = new DoubleBuffer[mapped.size()];
+        for (int i = 0; i < segments.length; ++i) {
+            segments[i] = mapped.get(i).order(byteOrder).asDoubleBuffer();
+        }
+        return new DoubleBufferIterable(segments);
+    }
+
+    /**
+     * Map the whole elements of a file in segments no larger than {@link #MAX_MAPPED_SEGMENT_BYTES}.
+     *
+     * @param path         the file to map
+     * @param elementBytes the size of each element
+     * @return the mapped segments; they remain valid after the channel is closed
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    private static List<MappedByteBuffer> map(Path path, int elementBytes) throws IOException {
+        List<MappedByteBuffer> segments = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size() / elementBytes * elementBytes;
+            long segmentBytes = MAX_MAPPED_SEGMENT_BYTES / elementBytes * elementBytes;
+            for (long position = 0; position < size; position += segmentBytes) {
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(segmentBytes, size - position)));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Determine whether the iterable's spliterators know their exact size without traversal.
+     *
+     * @param primitiveIterable The iterable
+     * @return true when the iterable advertises {@link Spliterator#SIZED} spliterators
+     */
+    private static boolean isSized(J8PrimitiveIterable<?, ?> primitiveIterable) {
+        return primitiveIterable instanceof KnownCharacteristics &&
+                (((KnownCharacteristics) primitiveIterable).characteristics() & Spliterator.SIZED) != 0;
+    }
+
+    /**
+     * Find the minimum int of the iterable.
+     *
+     * @param intIterable The iterable
+     * @return the minimum or {@link OptionalInt#empty()} if the iterable is empty
+     * @see IntStream#min()
+     */
+    @Nonnull
+    public static OptionalInt min(J8PrimitiveIterable.OfInt intIterable) {
+        return reduce(intIterable, Math::min);
+    }
+
+    /**
+     * Find the minimum long of the iterable.
+     *
+     * @param longIterable The iterable
+     * @return the minimum or {@link OptionalLong#empty()} if the iterable is empty
+     * @see LongStream#min()
+     */
+    @Nonnull
+    public static OptionalLong min(J8PrimitiveIterable.OfLong longIterable) {
+        return reduce(longIterable, Math::min);
+    }
+
+    /**
+     * Find the minimum double of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @return the minimum or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see DoubleStream#min()
+     */
+    @Nonnull
+    public static OptionalDouble min(J8PrimitiveIterable.OfDouble doubleIterable) {
+        return reduce(doubleIterable, Math::min);
+    }
+
+    /**
+     * Find the maximum int of the iterable.
+     *
+     * @param intIterable The iterable
+     * @return the maximum or {@link OptionalInt#empty()} if the iterable is empty
+     * @see IntStream#max()
+     */
+    @Nonnull
+    public static OptionalInt max(J8PrimitiveIterable.OfInt intIterable) {
+        return reduce(intIterable, Math::max);
+    }
+
+    /**
+     * Find the maximum long of the iterable.
+     *
+     * @param longIterable The iterable
+     * @return the maximum or {@link OptionalLong#empty()} if the iterable is empty
+     * @see LongStream#max()
+     */
+    @Nonnull
+    public static OptionalLong max(J8PrimitiveIterable.OfLong longIterable) {
+        return reduce(longIterable, Math::max);
+    }
+
+    /**
+     * Find the maximum double of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @return the maximum or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see DoubleStream#max()
+     */
+    @Nonnull
+    public static OptionalDouble max(J8PrimitiveIterable.OfDouble doubleIterable) {
+        return reduce(doubleIterable, Math::max);
+    }
+
+    /**
+     * Average the ints of the iterable.
+     *
+     * @param intIterable The iterable
+     * @return the average or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see IntStream#average()
+     */
+    @Nonnull
+    public static OptionalDouble average(J8PrimitiveIterable.OfInt intIterable) {
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        long count = 0;
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+            ++count;
+        }
+        return count > 0 ? OptionalDouble.of((double) sum / count) : OptionalDouble.empty();
+    }
+
+    /**
+     * Average the longs of the iterable.
+     *
+     * @param longIterable The iterable
+     * @return the average or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see LongStream#average()
+     */
+    @Nonnull
+    public static OptionalDouble average(J8PrimitiveIterable.OfLong longIterable) {
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        long count = 0;
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+            ++count;
+        }
+        return count > 0 ? OptionalDouble.of((double) sum / count) : OptionalDouble.empty();
+    }
+
+    /**
+     * Average the doubles of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @return the average or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see DoubleStream#average()
+     */
+    @Nonnull
+    public static OptionalDouble average(J8PrimitiveIterable.OfDouble doubleIterable) {
+        DoubleSummaryStatistics statistics = summaryStatistics(doubleIterable);
+        return statistics.getCount() > 0 ? OptionalDouble.of(statistics.getAverage()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Gather count, sum, min, average and max of the ints of the iterable in one pass.
+     *
+     * @param intIterable The iterable
+     * @return the statistics
+     * @see IntStream#summaryStatistics()
+     */
+    @Nonnull
+    public static IntSummaryStatistics summaryStatistics(J8PrimitiveIterable.OfInt intIterable) {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        intIterable.primitiveIterator().forEachRemaining((IntConsumer) statistics);
+        return statistics;
+    }
+
+    /**
+     * Gather count, sum, min, average and max of the longs of the iterable in one pass.
+     *
+     * @param longIterable The iterable
+     * @return the statistics
+     * @see LongStream#summaryStatistics()
+     */
+    @Nonnull
+    public static LongSummaryStatistics summaryStatistics(J8PrimitiveIterable.OfLong longIterable) {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        longIterable.primitiveIterator().forEachRemaining((LongConsumer) statistics);
+        return statistics;
+    }
+
+    /**
+     * Gather count, sum, min, average and max of the doubles of the iterable in one pass.
+     *
+     * @param doubleIterable The iterable
+     * @return the statistics
+     * @see DoubleStream#summaryStatistics()
+     */
+    @Nonnull
+    public static DoubleSummaryStatistics summaryStatistics(J8PrimitiveIterable.OfDouble doubleIterable) {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        doubleIterable.primitiveIterator().forEachRemaining((DoubleConsumer) statistics);
+        return statistics;
+    }
+
+    /**
+     * Perform a reduction on the ints of the iterable.
+     *
+     * @param intIterable The iterable
+     * @param identity    The identity to start reduction with
+     * @param accumulator The accumulator function
+     * @return The reduced result
+     * @see IntStream#reduce(int, IntBinaryOperator)
+     */
+    public static int reduce(J8PrimitiveIterable.OfInt intIterable, int identity, IntBinaryOperator accumulator) {
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        int result = identity;
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsInt(result, iterator.nextInt());
+        }
+        return result;
+    }
+
+    /**
+     * Perform a reduction on the longs of the iterable.
+     *
+     * @param longIterable The iterable
+     * @param identity     The identity to start reduction with
+     * @param accumulator  The accumulator function
+     * @return The reduced result
+     * @see LongStream#reduce(long, LongBinaryOperator)
+     */
+    public static long reduce(J8PrimitiveIterable.OfLong longIterable, long identity, LongBinaryOperator accumulator) {
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        long result = identity;
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsLong(result, iterator.nextLong());
+        }
+        return result;
+    }
+
+    /**
+     * Perform a reduction on the doubles of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @param identity       The identity to start reduction with
+     * @param accumulator    The accumulator function
+     * @return The reduced result
+     * @see DoubleStream#reduce(double, DoubleBinaryOperator)
+     */
+    public static double reduce(J8PrimitiveIterable.OfDouble doubleIterable, double identity,
+                                DoubleBinaryOperator accumulator) {
+        PrimitiveIterator.OfDouble iterator = doubleIterable.primitiveIterator();
+        double result = identity;
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsDouble(result, iterator.nextDouble());
+        }
+        return result;
+    }
+
+    /**
+     * Perform a reduction on the ints of the iterable.
+     *
+     * @param intIterable The iterable
+     * @param accumulator The accumulator function
+     * @return The reduced result or {@link OptionalInt#empty()} if the iterable is empty
+     * @see IntStream#reduce(IntBinaryOperator)
+     */
+    @Nonnull
+    public static OptionalInt reduce(J8PrimitiveIterable.OfInt intIterable, IntBinaryOperator accumulator) {
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        if (!iterator.hasNext()) {
+            return OptionalInt.empty();
+        }
+        int result = iterator.nextInt();
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsInt(result, iterator.nextInt());
+        }
+        return OptionalInt.of(result);
+    }
+
+    /**
+     * Perform a reduction on the longs of the iterable.
+     *
+     * @param longIterable The iterable
+     * @param accumulator  The accumulator function
+     * @return The reduced result or {@link OptionalLong#empty()} if the iterable is empty
+     * @see LongStream#reduce(LongBinaryOperator)
+     */
+    @Nonnull
+    public static OptionalLong reduce(J8PrimitiveIterable.OfLong longIterable, LongBinaryOperator accumulator) {
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        if (!iterator.hasNext()) {
+            return OptionalLong.empty();
+        }
+        long result = iterator.nextLong();
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsLong(result, iterator.nextLong());
+        }
+        return OptionalLong.of(result);
+    }
+
+    /**
+     * Perform a reduction on the doubles of the iterable.
+     *
+     * @param doubleIterable The iterable
+     * @param accumulator    The accumulator function
+     * @return The reduced result or {@link OptionalDouble#empty()} if the iterable is empty
+     * @see DoubleStream#reduce(DoubleBinaryOperator)
+     */
+    @Nonnull
+    public static OptionalDouble reduce(J8PrimitiveIterable.OfDouble doubleIterable,
+                                        DoubleBinaryOperator accumulator) {
+        PrimitiveIterator.OfDouble iterator = doubleIterable.primitiveIterator();
+        if (!iterator.hasNext()) {
+            return OptionalDouble.empty();
+        }
+        double result = iterator.nextDouble();
+        while (iterator.hasNext()) {
+            result = accumulator.applyAsDouble(result, iterator.nextDouble());
+        }
+        return OptionalDouble.of(result);
+    }
+
+    /**
+     * Collect the ints of the iterable into a mutable container.
+     *
+     * @param intIterable The iterable
+     * @param supplier    The container supplier
+     * @param accumulator The accumulator function
+     * @param <R>         The return type
+     * @return Collected result
+     * @see IntStream#collect(Supplier, ObjIntConsumer, BiConsumer)
+     */
+    public static <R> R collect(J8PrimitiveIterable.OfInt intIterable, Supplier<R> supplier,
+                                ObjIntConsumer<R> accumulator) {
+        R result = supplier.get();
+        PrimitiveIterator.OfInt iterator = intIterable.primitiveIterator();
+        while (iterator.hasNext()) {
+            accumulator.accept(result, iterator.nextInt());
+        }
+        return result;
+    }
+
+    /**
+     * Collect the longs of the iterable into a mutable container.
+     *
+     * @param longIterable The iterable
+     * @param supplier     The container supplier
+     * @param accumulator  The accumulator function
+     * @param <R>          The return type
+     * @return Collected result
+     * @see LongStream#collect(Supplier, ObjLongConsumer, BiConsumer)
+     */
+    public static <R> R collect(J8PrimitiveIterable.OfLong longIterable, Supplier<R> supplier,
+                                ObjLongConsumer<R> accumulator) {
+        R result = supplier.get();
+        PrimitiveIterator.OfLong iterator = longIterable.primitiveIterator();
+        while (iterator.hasNext()) {
+            accumulator.accept(result, iterator.nextLong());
+        }
+        return result;
+    }
+
+    /**
+     * Collect the doubles of the iterable into a mutable container.
+     *
+     * @param doubleIterable The iterable
+     * @param supplier       The container supplier
+     * @param accumulator    The accumulator function
+     * @param <R>            The return type
+     * @return Collected result
+     * @see DoubleStream#collect(Supplier, ObjDoubleConsumer, BiConsumer)
+     */
+    public static <R> R collect(J8PrimitiveIterable.OfDouble doubleIterable, Supplier<R> supplier,
+                                ObjDoubleConsumer<R> accumulator) {
+        R result = supplier.get();
+        PrimitiveIterator.OfDouble iterator = doubleIterable.primitiveIterator();
+        while (iterator.hasNext()) {
+            accumulator.accept(result, iterator.nextDouble());
+        }
+        return result;
+    }
+}
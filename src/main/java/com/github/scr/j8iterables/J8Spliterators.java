@@ -1,12 +1,17 @@
 package com.github.scr.j8iterables;
 
+import com.github.scr.j8iterables.core.Ends;
+import com.github.scr.j8iterables.core.IteratorBatchSpliterator;
 import com.github.scr.j8iterables.core.ToDoubleSpliterator;
 import com.github.scr.j8iterables.core.ToIntSpliterator;
 import com.github.scr.j8iterables.core.ToLongSpliterator;
 import com.google.common.annotations.VisibleForTesting;
 
 import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
@@ -22,6 +27,74 @@ public class J8Spliterators {
     J8Spliterators() {
     }
 
+    /**
+     * Create a {@link Spliterator} over an iterator that splits off geometrically growing batches, targeting the
+     * parallelism of the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param iterator        the iterator to traverse
+     * @param expectedSize    a hint of the number of elements, or {@link Long#MAX_VALUE} if unknown
+     * @param characteristics the characteristics of the iterator's elements
+     * @param <T>             the type of elements
+     * @return a spliterator over the iterator
+     * @see IteratorBatchSpliterator
+     */
+    @Nonnull
+    public static <T> Spliterator<T> fromIterator(
+            Iterator<? extends T> iterator, long expectedSize, int characteristics) {
+        return fromIterator(iterator, expectedSize, characteristics,
+                ForkJoinPool.getCommonPoolParallelism(), IteratorBatchSpliterator.DEFAULT_MIN_BATCH);
+    }
+
+    /**
+     * Create a {@link Spliterator} over an iterator that splits off geometrically growing batches.
+     *
+     * @param iterator        the iterator to traverse
+     * @param expectedSize    a hint of the number of elements, or {@link Long#MAX_VALUE} if unknown
+     * @param characteristics the characteristics of the iterator's elements
+     * @param parallelism     the number of workers expected to process the splits
+     * @param minBatch        the size of the first batch
+     * @param <T>             the type of elements
+     * @return a spliterator over the iterator
+     * @see IteratorBatchSpliterator
+     */
+    @Nonnull
+    public static <T> Spliterator<T> fromIterator(
+            Iterator<? extends T> iterator, long expectedSize, int characteristics, int parallelism, int minBatch) {
+        return new IteratorBatchSpliterator<>(iterator, expectedSize, characteristics, parallelism, minBatch);
+    }
+
+    /**
+     * Return the first and last elements or {@link Optional#empty()} if {@code spliterator} has none.
+     * <p>
+     * If the spliterator is {@link Spliterator#SUBSIZED}, prefixes are split off and discarded until it cannot be split
+     * further, so only the last piece is traversed; for array- and index-based spliterators this is O(log n).
+     *
+     * @param spliterator The spliterator to get the ends from; it is consumed
+     * @param <T>         The type of element in the spliterator
+     * @return optional {@link Ends} with the first and last of the spliterator
+     */
+    @Nonnull
+    public static <T> Optional<Ends<T>> ends(Spliterator<T> spliterator) {
+        @SuppressWarnings("unchecked")
+        T[] ends = (T[]) new Object[2];
+        if (!spliterator.tryAdvance(t -> ends[0] = ends[1] = t)) {
+            return Optional.empty();
+        }
+        Spliterator<T> rest = spliterator;
+        if (rest.hasCharacteristics(Spliterator.SUBSIZED)) {
+            Spliterator<T> prefix;
+            while (rest.estimateSize() > 1 && (prefix = rest.trySplit()) != null) {
+                if (rest.estimateSize() == 0) {
+                    rest = prefix;
+                } else if (prefix.estimateSize() == 0) {
+                    break;
+                }
+            }
+        }
+        rest.forEachRemaining(t -> ends[1] = t);
+        return Optional.of(new Ends<>(ends[0], ends[1]));
+    }
+
     @Nonnull
     public static <T> Spliterator.OfInt mapToInt(
             Spliterator<T> iterator, ToIntFunction<T> toIntFunction) {
@@ -1,9 +1,31 @@
 package com.github.scr.j8iterables;
 
+import com.github.scr.j8iterables.core.ByteBufferCharSequence;
+import com.github.scr.j8iterables.core.ChannelBlockSpliterator;
 import com.github.scr.j8iterables.core.CloseableSpliterator;
+import com.github.scr.j8iterables.core.Ends;
+import com.github.scr.j8iterables.core.IteratorBatchSpliterator;
+import com.github.scr.j8iterables.core.MappedRecordSpliterator;
+import com.github.scr.j8iterables.core.PartitionedResourceSpliterator;
+import com.github.scr.j8iterables.core.PrefetchingIterator;
+import com.github.scr.j8iterables.core.RecordFormat;
 
+import javax.annotation.Nullable;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -17,10 +39,53 @@ import java.util.stream.StreamSupport;
  */
 @SuppressWarnings("WeakerAccess")
 public class J8Streams {
+    /**
+     * Return the first and last elements or {@link Optional#empty()} if {@code stream} is empty.
+     * <p>
+     * Uses {@link Ends#collector()}, so parallel streams find the ends of each piece and combine them in order.
+     *
+     * @param stream The stream to get the ends from
+     * @param <T>    The type of element in the stream
+     * @return optional {@link Ends} with the first and last of the stream
+     * @see J8Spliterators#ends(Spliterator)
+     */
+    public static <T> Optional<Ends<T>> ends(Stream<T> stream) {
+        return stream.collect(Ends.collector());
+    }
+
+    /**
+     * Read ahead of the consumer of {@code stream}, pulling batches of it on {@code executor} into a bounded queue, so
+     * that a slow source is waited on while the consumer processes earlier elements.
+     * <p>
+     * Closing the returned stream cancels the fetch and closes {@code stream}.
+     *
+     * @param stream    The stream to read ahead of
+     * @param executor  The executor to fetch on, which must run the fetch on another thread
+     * @param capacity  The most elements fetched ahead of the consumer
+     * @param batchSize The number of elements fetched and handed over at once
+     * @param <T>       The type of element in the stream
+     * @return A Stream of the same elements
+     * @see PrefetchingIterator
+     */
+    public static <T> Stream<T> prefetch(Stream<T> stream, Executor executor, int capacity, int batchSize) {
+        Spliterator<T> spliterator = stream.spliterator();
+        PrefetchingIterator<T> iterator = new PrefetchingIterator<>(
+                Spliterators.iterator(spliterator), executor, capacity, batchSize);
+        int characteristics = spliterator.characteristics() &
+                (Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(new IteratorBatchSpliterator<>(iterator, characteristics), stream.isParallel())
+                .onClose(iterator::close)
+                .onClose(stream::close);
+    }
+
     /**
      * Inspired by
      * <a href="http://doc.akka.io/docs/akka/2.4/scala/stream/stages-overview.html#unfoldResource">akka-stream</a>,
      * obtain a stream from a resource that can be closed when the stream has been consumed.
+     * <p>
+     * The resource is closed exactly once: when the stream (including any parallel splits) has been consumed, or when
+     * the stream is closed, so use try-with-resources with short-circuiting operations such as
+     * {@link Stream#findFirst()}.
      *
      * @param resourceSupplier          Supplier of the resource
      * @param resourceSpliteratorMapper Maps the resource to a spliterator
@@ -37,17 +102,23 @@ public class J8Streams {
             Consumer<R> resourceCloser,
             int characteristics, boolean parallel) {
 
+        AtomicReference<CloseableSpliterator<T, R>> opened = new AtomicReference<>();
         return StreamSupport.stream(() -> {
             R resource = resourceSupplier.get();
             Spliterator<T> spliterator = resourceSpliteratorMapper.apply(resource);
-            return new CloseableSpliterator<>(resource, resourceCloser, spliterator);
-        }, characteristics, parallel);
+            CloseableSpliterator<T, R> closeableSpliterator =
+                    new CloseableSpliterator<>(resource, resourceCloser, spliterator);
+            opened.set(closeableSpliterator);
+            return closeableSpliterator;
+        }, characteristics, parallel).onClose(() -> closeOpened(opened));
     }
 
     /**
      * Inspired by
      * <a href="http://doc.akka.io/docs/akka/2.4/scala/stream/stages-overview.html#unfoldResource">akka-stream</a>,
      * obtain a stream from a {@link Closeable} resource that can be closed when the stream has been consumed.
+     * <p>
+     * The resource is closed exactly once: when the stream has been consumed, or when the stream is closed.
      *
      * @param resourceSupplier          Supplier of the resource
      * @param resourceSpliteratorMapper Maps the resource to a spliterator
@@ -63,10 +134,200 @@ public class J8Streams {
             Function<R, Spliterator<T>> resourceSpliteratorMapper,
             int characteristics, boolean parallel) {
 
+        AtomicReference<CloseableSpliterator<T, R>> opened = new AtomicReference<>();
         return StreamSupport.stream(() -> {
             R resource = resourceSupplier.get();
             Spliterator<T> spliterator = resourceSpliteratorMapper.apply(resource);
-            return CloseableSpliterator.ofCloseableResource(resource, spliterator);
-        }, characteristics, parallel);
+            CloseableSpliterator<T, R> closeableSpliterator =
+                    CloseableSpliterator.ofCloseableResource(resource, spliterator);
+            opened.set(closeableSpliterator);
+            return closeableSpliterator;
+        }, characteristics, parallel).onClose(() -> closeOpened(opened));
+    }
+
+    private static void closeOpened(AtomicReference<? extends CloseableSpliterator<?, ?>> opened) {
+        CloseableSpliterator<?, ?> spliterator = opened.get();
+        if (spliterator != null) {
+            spliterator.close();
+        }
+    }
+
+    /**
+     * Like {@link #unfoldResource(Supplier, Function, Consumer, int, boolean)}, but over partitions (such as byte ranges
+     * of a file or key ranges of a table) that each open a resource of their own, so that a parallel stream reads the
+     * partitions concurrently, and each resource is closed when its partition has been consumed.
+     * <p>
+     * Closing the stream closes any resources left open by a traversal that ended early.
+     *
+     * @param planner                   Plans the partitions, when the terminal operation begins
+     * @param resourceOpener            Opens the resource for a partition
+     * @param resourceSpliteratorMapper Maps a partition's resource to a spliterator
+     * @param resourceCloser            Closes a resource
+     * @param characteristics           spliterator characteristics
+     * @param parallel                  Whether parallel execution is possible
+     * @param <T>                       Type of the iteration elements
+     * @param <P>                       Type of the partitions
+     * @param <R>                       Type of the resource
+     * @return A Stream of T
+     * @see PartitionedResourceSpliterator
+     */
+    public static <T, P, R> Stream<T> unfoldPartitionedResource(
+            Supplier<? extends List<P>> planner,
+            Function<? super P, ? extends R> resourceOpener,
+            Function<? super R, ? extends Spliterator<T>> resourceSpliteratorMapper,
+            Consumer<? super R> resourceCloser,
+            int characteristics, boolean parallel) {
+
+        PartitionedResourceSpliterator<T, P, R> spliterator = new PartitionedResourceSpliterator<>(
+                planner, resourceOpener, resourceSpliteratorMapper, resourceCloser, characteristics);
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::close);
+    }
+
+    /**
+     * Like {@link #unfoldResource(Supplier, Function, int, boolean)}, but over partitions that each open a
+     * {@link Closeable} resource of their own.
+     *
+     * @param planner                   Plans the partitions, when the terminal operation begins
+     * @param resourceOpener            Opens the resource for a partition
+     * @param resourceSpliteratorMapper Maps a partition's resource to a spliterator
+     * @param characteristics           spliterator characteristics
+     * @param parallel                  Whether parallel execution is possible
+     * @param <T>                       Type of the iteration elements
+     * @param <P>                       Type of the partitions
+     * @param <R>                       Type of the resource
+     * @return A Stream of T
+     * @apiNote If {@link Closeable} throws an {@link java.io.IOException}, an {@link java.io.UncheckedIOException} will be thrown.
+     * @see #unfoldPartitionedResource(Supplier, Function, Function, Consumer, int, boolean)
+     */
+    public static <T, P, R extends Closeable> Stream<T> unfoldPartitionedResource(
+            Supplier<? extends List<P>> planner,
+            Function<? super P, ? extends R> resourceOpener,
+            Function<? super R, ? extends Spliterator<T>> resourceSpliteratorMapper,
+            int characteristics, boolean parallel) {
+
+        PartitionedResourceSpliterator<T, P, R> spliterator = PartitionedResourceSpliterator.ofCloseableResources(
+                planner, resourceOpener, resourceSpliteratorMapper, characteristics);
+        return StreamSupport.stream(spliterator, parallel).onClose(spliterator::close);
+    }
+
+    /**
+     * Stream the records of the file at {@code path}, framed by {@code format}, as views of the file mapped into memory
+     * in windows of at most {@link MappedRecordSpliterator#DEFAULT_WINDOW_BYTES}.
+     *
+     * @param path   The file to read
+     * @param format The framing of the records
+     * @return A Stream of the records' contents, which should be closed
+     * @see #mappedRecords(Path, RecordFormat, int)
+     */
+    public static Stream<ByteBuffer> mappedRecords(Path path, RecordFormat format) {
+        return mappedRecords(path, format, MappedRecordSpliterator.DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * Stream the records of the file at {@code path}, framed by {@code format}, as read-only {@link ByteBuffer} views
+     * of the file mapped into memory in windows of at most {@code windowBytes}, so that the bytes are never copied.
+     * <p>
+     * The file is opened and mapped when the terminal operation begins, using
+     * {@link #unfoldResource(Supplier, Function, int, boolean)}, and the stream is sequential but splits at record
+     * boundaries if made {@link Stream#parallel() parallel}. A record may not be larger than a window.
+     *
+     * @param path        The file to read
+     * @param format      The framing of the records
+     * @param windowBytes The largest part of the file to map at once
+     * @return A Stream of the records' contents, which should be closed
+     * @apiNote An {@link IOException} opening or mapping the file is thrown as an {@link UncheckedIOException}.
+     */
+    public static Stream<ByteBuffer> mappedRecords(Path path, RecordFormat format, int windowBytes) {
+        return unfoldResource(() -> {
+            try {
+                return FileChannel.open(path, StandardOpenOption.READ);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, channel -> {
+            try {
+                return MappedRecordSpliterator.map(channel, format, windowBytes);
+            } catch (IOException e) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw new UncheckedIOException(e);
+            }
+        }, Spliterator.ORDERED | Spliterator.NONNULL, false);
+    }
+
+    /**
+     * Stream the newline-delimited lines of the file at {@code path} as {@link CharSequence} views of the file mapped
+     * into memory, without a trailing carriage return.
+     * <p>
+     * Each byte is one ISO-8859-1 character, which suits ASCII text; decode the records of
+     * {@link #mappedRecords(Path, RecordFormat)} for other charsets.
+     *
+     * @param path The file to read
+     * @return A Stream of the lines, which should be closed
+     * @see ByteBufferCharSequence
+     */
+    public static Stream<CharSequence> mappedLines(Path path) {
+        return mappedRecords(path, RecordFormat.delimited((byte) '\n')).map(record -> {
+            int limit = record.limit();
+            if (limit > 0 && record.get(limit - 1) == '\r') {
+                record.limit(limit - 1);
+            }
+            return new ByteBufferCharSequence(record);
+        });
+    }
+
+    /**
+     * Stream the blocks of a channel from {@code channelSupplier}, reading up to {@code depth} blocks ahead of the
+     * consumer on {@code executor} so that reading overlaps with processing.
+     * <p>
+     * Each block is a read-only view of a direct buffer that is reused once the stream moves on, so process it (for
+     * example, decode it) rather than keeping it. The channel is opened when the terminal operation begins and closed
+     * with {@link #unfoldResource(Supplier, Function, int, boolean)}.
+     *
+     * @param channelSupplier Opens the channel
+     * @param executor        The executor to read on
+     * @param blockSize       The number of bytes in each block
+     * @param depth           The number of blocks read ahead of the consumer, such as 2 for double buffering
+     * @param stats           The stats to record the blocks and stalls to, or {@code null}
+     * @param <R>             Type of the channel
+     * @return A Stream of blocks, which should be closed
+     * @apiNote An {@link IOException} reading the channel is thrown as an {@link UncheckedIOException}.
+     * @see ChannelBlockSpliterator
+     */
+    public static <R extends ReadableByteChannel> Stream<ByteBuffer> channelBlocks(
+            Supplier<R> channelSupplier, Executor executor, int blockSize, int depth,
+            @Nullable ChannelBlockSpliterator.Stats stats) {
+        return unfoldResource(channelSupplier,
+                channel -> ChannelBlockSpliterator.of(channel, executor, blockSize, depth, stats),
+                Spliterator.ORDERED | Spliterator.NONNULL, false);
+    }
+
+    /**
+     * Stream the blocks of the file at {@code path}, with up to {@code depth} asynchronous reads outstanding ahead of
+     * the consumer, so that reading overlaps with processing.
+     * <p>
+     * As with {@link #channelBlocks(Supplier, Executor, int, int, ChannelBlockSpliterator.Stats)}, each block is only
+     * valid until the stream moves on.
+     *
+     * @param path      The file to read
+     * @param blockSize The number of bytes in each block
+     * @param depth     The number of blocks read ahead of the consumer, such as 2 for double buffering
+     * @param stats     The stats to record the blocks and stalls to, or {@code null}
+     * @return A Stream of blocks, which should be closed
+     * @apiNote An {@link IOException} opening or reading the file is thrown as an {@link UncheckedIOException}.
+     */
+    public static Stream<ByteBuffer> fileBlocks(Path path, int blockSize, int depth,
+                                                @Nullable ChannelBlockSpliterator.Stats stats) {
+        return unfoldResource(() -> {
+            try {
+                return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, channel -> ChannelBlockSpliterator.of(channel, 0, blockSize, depth, stats),
+                Spliterator.ORDERED | Spliterator.NONNULL, false);
     }
 }
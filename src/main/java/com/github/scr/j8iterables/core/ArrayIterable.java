@@ -0,0 +1,278 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link FluentIterable} over (a strided range of) an array.
+ * <p>
+ * Slices and strides are views that share the array rather than copying it, so paging through a large array costs
+ * constant time per page. {@link FluentIterable#skip(int)}, {@link FluentIterable#limit(int)} and
+ * {@link FluentIterable#get(int)} cannot be overridden, so use {@link #skipView(int)}, {@link #limitView(int)} and
+ * {@link #elementAt(int)} for their constant-time equivalents. Spliterators are {@link Spliterator#SIZED},
+ * {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED} and {@link Spliterator#IMMUTABLE}, and split at the exact
+ * midpoint.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ */
+public class ArrayIterable<T> extends FluentIterable<T> implements KnownCharacteristics {
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED |
+            Spliterator.IMMUTABLE;
+
+    private final T[] array;
+    private final int offset;
+    private final int size;
+    private final int stride;
+
+    /**
+     * Create an iterable over the whole {@code array}.
+     *
+     * @param array the array to iterate; not copied
+     */
+    public ArrayIterable(T[] array) {
+        this(array, 0, array.length, 1);
+    }
+
+    /**
+     * Create an iterable over {@code size} elements of {@code array}, starting at {@code offset} and advancing by
+     * {@code stride}.
+     *
+     * @param array  the array to iterate; not copied
+     * @param offset the index of the first element
+     * @param size   the number of elements
+     * @param stride the distance between consecutive elements
+     */
+    public ArrayIterable(T[] array, int offset, int size, int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be positive: " + stride);
+        }
+        if (offset < 0 || size < 0 || (size > 0 && offset + (long) (size - 1) * stride >= array.length)) {
+            throw new ArrayIndexOutOfBoundsException(
+                    "offset=" + offset + ", size=" + size + ", stride=" + stride + ", length=" + array.length);
+        }
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+        this.stride = stride;
+    }
+
+    /**
+     * The number of elements, without iterating like {@link FluentIterable#size()}.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return size;
+    }
+
+    /**
+     * Get the element at {@code index}, without iterating like {@link FluentIterable#get(int)}.
+     *
+     * @param index the index of the element in this iterable
+     * @return the element
+     */
+    public T elementAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+        }
+        return array[offset + index * stride];
+    }
+
+    /**
+     * A view of the elements from index {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @param from the first index of the slice
+     * @param to   the index after the last of the slice
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public ArrayIterable<T> slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to + ", size=" + size);
+        }
+        if (from == to) {
+            return new ArrayIterable<>(array, 0, 0, 1);
+        }
+        return new ArrayIterable<>(array, offset + from * stride, to - from, stride);
+    }
+
+    /**
+     * A view of every {@code step}th element, starting with the first.
+     *
+     * @param step the distance between elements of this iterable to take
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public ArrayIterable<T> stride(int step) {
+        if (step < 1) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+        int newSize = (int) (((long) size + step - 1) / step);
+        return new ArrayIterable<>(array, offset, newSize, newSize <= 1 ? 1 : Math.multiplyExact(stride, step));
+    }
+
+    /**
+     * Keep at most the first {@code maxSize} elements, as a view sharing this iterable's array.
+     *
+     * @param maxSize the maximum number of elements
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public ArrayIterable<T> limitView(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        return slice(0, Math.min(maxSize, size));
+    }
+
+    /**
+     * Skip the first {@code n} elements, as a view sharing this iterable's array.
+     *
+     * @param n the number of elements to skip
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public ArrayIterable<T> skipView(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return slice(Math.min(n, size), size);
+    }
+
+    /**
+     * An unmodifiable {@link RandomAccess} list view sharing this iterable's array.
+     *
+     * @return a list of the elements
+     */
+    @Nonnull
+    public List<T> asList() {
+        if (stride == 1 && offset == 0 && size == array.length) {
+            return Collections.unmodifiableList(Arrays.asList(array));
+        }
+        return new ListView();
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<T> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    @Nonnull
+    public Spliterator<T> spliterator() {
+        return new StridedSpliterator<>(array, offset, stride, 0, size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private final class ListView extends AbstractList<T> implements RandomAccess {
+        @Override
+        public T get(int index) {
+            return elementAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @Nonnull
+        public List<T> subList(int fromIndex, int toIndex) {
+            return slice(fromIndex, toIndex).asList();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return ArrayIterable.this.spliterator();
+        }
+    }
+
+    /**
+     * Spliterator over the element indexes {@code [index, fence)} of a strided view.
+     */
+    private static final class StridedSpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private final int offset;
+        private final int stride;
+        private int index;
+        private final int fence;
+
+        StridedSpliterator(T[] array, int offset, int stride, int index, int fence) {
+            this.array = array;
+            this.offset = offset;
+            this.stride = stride;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @Nullable
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new StridedSpliterator<>(array, offset, stride, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(array[offset + index++ * stride]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] a = array;
+            int s = stride;
+            int hi = fence;
+            int i = index;
+            index = hi;
+            for (int j = offset + i * s; i < hi; ++i, j += s) {
+                action.accept(a[j]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Consumer} that hands elements to a bounded queue, which is drained in batches on an {@link Executor}, so that
+ * a slow consumer does not add to the latency of the code peeking.
+ * <p>
+ * A drain is started whenever a full batch is queued, and by {@link #flush()} for a partial batch. When the queue is
+ * full, the {@link OverflowPolicy} decides whether to wait or which element to drop. Counts of delivered, dropped and
+ * failed elements are kept; an exception from the consumer fails its batch but does not stop later batches, and the most
+ * recent one is kept for {@link #getLastFailure()}.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Iterables#peekAsync(Iterable, AsyncPeeker)
+ */
+public class AsyncPeeker<T> implements Consumer<T> {
+    /**
+     * The batch size used by {@link #of(Consumer, Executor, int, OverflowPolicy)}, if the capacity allows.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Object NULL = new Object();
+
+    /**
+     * What to do with an element when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait for room, so no element is dropped but the caller may be slowed down.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued element to make room.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the new element.
+         */
+        DROP_NEWEST,
+        /**
+         * Once the queue is half full, queue each new element with a probability that falls from one to zero as the
+         * queue fills, shedding load gradually; drop it when the queue is full.
+         */
+        SAMPLE
+    }
+
+    private final Consumer<? super List<T>> batchConsumer;
+    private final Executor executor;
+    private final BlockingQueue<Object> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final OverflowPolicy policy;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    @Nullable
+    private volatile RuntimeException lastFailure;
+
+    /**
+     * Create a peeker that passes batches of elements to {@code batchConsumer}.
+     *
+     * @param batchConsumer the consumer of batches, run on {@code executor}
+     * @param executor      the executor to drain the queue on
+     * @param capacity      the most elements queued at once
+     * @param batchSize     the most elements in a batch, and the number queued before a drain is started
+     * @param policy        what to do when the queue is full
+     */
+    public AsyncPeeker(Consumer<? super List<T>> batchConsumer, Executor executor, int capacity, int batchSize,
+                       OverflowPolicy policy) {
+        this(batchConsumer, executor, capacity, batchSize, policy, ArrayBlockingQueue::new);
+    }
+
+    @VisibleForTesting
+    AsyncPeeker(Consumer<? super List<T>> batchConsumer, Executor executor, int capacity, int batchSize,
+                OverflowPolicy policy, IntFunction<BlockingQueue<Object>> queueFactory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (batchSize < 1 || batchSize > capacity) {
+            throw new IllegalArgumentException("batchSize must be in [1, " + capacity + "]: " + batchSize);
+        }
+        this.batchConsumer = batchConsumer;
+        this.executor = executor;
+        this.queue = queueFactory.apply(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.policy = policy;
+    }
+
+    /**
+     * Create a peeker that passes each element to {@code consumer}.
+     *
+     * @param consumer the consumer of elements, run on {@code executor}
+     * @param executor the executor to drain the queue on
+     * @param capacity the most elements queued at once
+     * @param policy   what to do when the queue is full
+     * @param <T>      the type of elements
+     * @return a new peeker
+     */
+    @Nonnull
+    public static <T> AsyncPeeker<T> of(Consumer<? super T> consumer, Executor executor, int capacity,
+                                        OverflowPolicy policy) {
+        return new AsyncPeeker<T>(batch -> batch.forEach(consumer), executor, capacity,
+                Math.min(capacity, DEFAULT_BATCH_SIZE), policy);
+    }
+
+    @Override
+    public void accept(T t) {
+        Object element = t == null ? NULL : t;
+        switch (policy) {
+            case BLOCK:
+                try {
+                    queue.put(element);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                    return;
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(element)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                break;
+            case SAMPLE:
+                int remaining = queue.remainingCapacity();
+                int half = capacity >>> 1;
+                if ((remaining < half && ThreadLocalRandom.current().nextInt(half) >= remaining) ||
+                        !queue.offer(element)) {
+                    dropped.increment();
+                }
+                break;
+            case DROP_NEWEST:
+                if (!queue.offer(element)) {
+                    dropped.increment();
+                }
+                break;
+            default:
+                throw new AssertionError(policy);
+        }
+        if (queue.size() >= batchSize) {
+            startDrain();
+        }
+    }
+
+    /**
+     * Start draining any queued elements, including a partial batch, without waiting for them to be consumed.
+     */
+    public void flush() {
+        if (!queue.isEmpty()) {
+            startDrain();
+        }
+    }
+
+    /**
+     * {@link #flush()}, then wait for the queue to be drained.
+     *
+     * @param timeout the most time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the queue was drained in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitFlushed(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (true) {
+                flush();
+                if (queue.isEmpty() && !draining.get()) {
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * The number of elements passed to the consumer in batches that completed normally.
+     *
+     * @return the count of delivered elements
+     */
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    /**
+     * The number of elements dropped because the queue was full.
+     *
+     * @return the count of dropped elements
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * The number of elements in batches for which the consumer threw an exception.
+     *
+     * @return the count of failed elements
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * The most recent exception thrown by the consumer, so that a broken consumer does not go unnoticed.
+     *
+     * @return the last failure, or {@code null} if no batch has failed
+     */
+    @Nullable
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * The number of elements waiting to be consumed.
+     *
+     * @return the size of the queue
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    private void startDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        List<Object> batch = new ArrayList<>(batchSize);
+        try {
+            while (queue.drainTo(batch, batchSize) > 0) {
+                consume(batch);
+                batch.clear();
+            }
+        } finally {
+            draining.set(false);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        // Pick up elements queued after the last drainTo but before draining was cleared; a flush() in that window
+        // could not start a drain of its own.
+        if (!queue.isEmpty()) {
+            startDrain();
+        }
+    }
+
+    private void consume(List<Object> batch) {
+        for (int i = 0; i < batch.size(); ++i) {
+            if (batch.get(i) == NULL) {
+                batch.set(i, null);
+            }
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            List<T> elements = (List<T>) (List<?>) batch;
+            batchConsumer.accept(elements);
+            delivered.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            lastFailure = e;
+        }
+    }
+}
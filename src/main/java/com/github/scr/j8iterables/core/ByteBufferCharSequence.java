@@ -0,0 +1,56 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view of the remaining bytes of a {@link ByteBuffer} as ISO-8859-1 (and so ASCII) characters,
+ * one per byte, without decoding or copying them.
+ * <p>
+ * For other charsets, decode the buffer instead, such as with {@link java.nio.charset.Charset#decode(ByteBuffer)}.
+ *
+ * @author scr
+ */
+public class ByteBufferCharSequence implements CharSequence {
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a view of the bytes of {@code buffer} from its position to its limit.
+     *
+     * @param buffer the bytes to view; later changes to its position and limit do not affect this view
+     */
+    public ByteBufferCharSequence(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    @Nonnull
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + length());
+        }
+        return new ByteBufferCharSequence(RecordFormat.slice(buffer, start, end));
+    }
+
+    /**
+     * Copy the characters into a String.
+     *
+     * @return the characters
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        return StandardCharsets.ISO_8859_1.decode(buffer.duplicate()).toString();
+    }
+}
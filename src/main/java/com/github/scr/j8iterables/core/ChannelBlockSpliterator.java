@@ -0,0 +1,345 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the blocks of a channel that keeps {@code depth} direct buffers in flight, so the next
+ * blocks are read asynchronously while the caller processes the current one.
+ * <p>
+ * Each block is a read-only view of a buffer that is reused once the spliterator advances again, so the caller must be
+ * done with a block (for example, have decoded it) before asking for the next. Every block but the last is full. Reads
+ * from a {@link ReadableByteChannel} run one after another on an {@link Executor}; reads from an
+ * {@link AsynchronousFileChannel} are issued at their positions directly. Time the caller spends waiting for a read is
+ * recorded in {@link Stats}; the spliterator does not split.
+ *
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Streams#channelBlocks(java.util.function.Supplier, Executor, int, int, Stats)
+ */
+public class ChannelBlockSpliterator implements Spliterator<ByteBuffer>, AutoCloseable {
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private final BlockReader reader;
+    private final int blockSize;
+    private final int depth;
+    private final Stats stats;
+    private final Deque<Pending> inFlight = new ArrayDeque<>();
+    private boolean started;
+    private boolean done;
+    @Nullable
+    private ByteBuffer lent;
+
+    private ChannelBlockSpliterator(BlockReader reader, int blockSize, int depth, @Nullable Stats stats) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be positive: " + depth);
+        }
+        this.reader = reader;
+        this.blockSize = blockSize;
+        this.depth = depth;
+        this.stats = stats == null ? new Stats() : stats;
+    }
+
+    /**
+     * Create a spliterator that reads blocks of {@code channel} on {@code executor}, one read at a time.
+     *
+     * @param channel   the channel to read until its end
+     * @param executor  the executor to read on
+     * @param blockSize the number of bytes in each block
+     * @param depth     the number of blocks read ahead of the caller
+     * @param stats     the stats to record to, or {@code null}
+     * @return a spliterator over the blocks of the channel
+     * @apiNote An {@link IOException} reading the channel is thrown as an {@link UncheckedIOException}.
+     */
+    @Nonnull
+    public static ChannelBlockSpliterator of(ReadableByteChannel channel, Executor executor, int blockSize, int depth,
+                                             @Nullable Stats stats) {
+        return new ChannelBlockSpliterator(new ChannelReader(channel, executor), blockSize, depth, stats);
+    }
+
+    /**
+     * Create a spliterator that reads blocks of {@code channel} from {@code position}, with up to {@code depth} reads
+     * outstanding at once.
+     *
+     * @param channel   the file to read until its end
+     * @param position  the position in the file of the first block
+     * @param blockSize the number of bytes in each block
+     * @param depth     the number of blocks read ahead of the caller
+     * @param stats     the stats to record to, or {@code null}
+     * @return a spliterator over the blocks of the file
+     * @apiNote An {@link IOException} reading the file is thrown as an {@link UncheckedIOException}.
+     */
+    @Nonnull
+    public static ChannelBlockSpliterator of(AsynchronousFileChannel channel, long position, int blockSize, int depth,
+                                             @Nullable Stats stats) {
+        if (position < 0) {
+            throw new IllegalArgumentException("position must not be negative: " + position);
+        }
+        return new ChannelBlockSpliterator(new FileReader(channel, position), blockSize, depth, stats);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+        if (done) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            for (int i = 0; i < depth; ++i) {
+                issue(ByteBuffer.allocateDirect(blockSize));
+            }
+        } else if (lent != null) {
+            // The caller is done with the last block, so its buffer can be read into again.
+            issue(lent);
+        }
+        lent = null;
+        Pending pending = inFlight.poll();
+        int read = await(pending.read);
+        if (read <= 0) {
+            close();
+            return false;
+        }
+        stats.blocks.increment();
+        stats.bytes.add(read);
+        pending.buffer.flip();
+        lent = pending.buffer;
+        action.accept(pending.buffer.asReadOnlyBuffer());
+        return true;
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<ByteBuffer> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Stop reading ahead; reads already in flight complete but are discarded. The channel is not closed.
+     */
+    @Override
+    public void close() {
+        done = true;
+        lent = null;
+        inFlight.clear();
+    }
+
+    /**
+     * The stats this spliterator records to.
+     *
+     * @return the stats
+     */
+    @Nonnull
+    public Stats getStats() {
+        return stats;
+    }
+
+    private void issue(ByteBuffer buffer) {
+        buffer.clear();
+        inFlight.add(new Pending(buffer, reader.read(buffer)));
+    }
+
+    private int await(CompletableFuture<Integer> read) {
+        if (!read.isDone()) {
+            stats.stalls.increment();
+            long start = System.nanoTime();
+            try {
+                return join(read);
+            } finally {
+                stats.stallNanos.add(System.nanoTime() - start);
+            }
+        }
+        return join(read);
+    }
+
+    private int join(CompletableFuture<Integer> read) {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            done = true;
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Counts of blocks read and of the time spent waiting for them, which may be shared by several spliterators.
+     */
+    public static class Stats {
+        private final LongAdder blocks = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder stalls = new LongAdder();
+        private final LongAdder stallNanos = new LongAdder();
+
+        /**
+         * The number of blocks handed to callers.
+         *
+         * @return the count of blocks
+         */
+        public long getBlocks() {
+            return blocks.sum();
+        }
+
+        /**
+         * The number of bytes handed to callers.
+         *
+         * @return the count of bytes
+         */
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        /**
+         * The number of times a caller had to wait for a block; near zero when reading keeps ahead of processing.
+         *
+         * @return the count of stalls
+         */
+        public long getStalls() {
+            return stalls.sum();
+        }
+
+        /**
+         * The total time callers spent waiting for blocks.
+         *
+         * @return the stall time in nanoseconds
+         */
+        public long getStallNanos() {
+            return stallNanos.sum();
+        }
+    }
+
+    /**
+     * A block being read into {@code buffer}.
+     */
+    private static final class Pending {
+        final ByteBuffer buffer;
+        final CompletableFuture<Integer> read;
+
+        Pending(ByteBuffer buffer, CompletableFuture<Integer> read) {
+            this.buffer = buffer;
+            this.read = read;
+        }
+    }
+
+    /**
+     * Reads the next block of a channel.
+     */
+    private interface BlockReader {
+        /**
+         * Start filling {@code buffer} with the block after those already requested.
+         *
+         * @param buffer the buffer to fill, up to its limit unless the channel ends first
+         * @return the number of bytes read, or {@code -1} if the channel had ended
+         */
+        CompletableFuture<Integer> read(ByteBuffer buffer);
+    }
+
+    private static final class ChannelReader implements BlockReader {
+        private final ReadableByteChannel channel;
+        private final Executor executor;
+        private CompletableFuture<Integer> last = CompletableFuture.completedFuture(0);
+
+        ChannelReader(ReadableByteChannel channel, Executor executor) {
+            this.channel = channel;
+            this.executor = executor;
+        }
+
+        @Override
+        public CompletableFuture<Integer> read(ByteBuffer buffer) {
+            // Chain each read after the last, since a channel is read one block at a time.
+            last = last.thenApplyAsync(previous -> previous < 0 ? -1 : readFully(buffer), executor);
+            return last;
+        }
+
+        private int readFully(ByteBuffer buffer) {
+            try {
+                int total = 0;
+                while (buffer.hasRemaining()) {
+                    int n = channel.read(buffer);
+                    if (n < 0) {
+                        return total == 0 ? -1 : total;
+                    }
+                    total += n;
+                }
+                return total;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class FileReader implements BlockReader {
+        private final AsynchronousFileChannel channel;
+        private long position;
+
+        FileReader(AsynchronousFileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        @Override
+        public CompletableFuture<Integer> read(ByteBuffer buffer) {
+            CompletableFuture<Integer> read = new CompletableFuture<>();
+            long at = position;
+            // Advance before reading, since the buffer's position changes as the read completes.
+            position += buffer.remaining();
+            readAt(buffer, at, 0, read);
+            return read;
+        }
+
+        private void readAt(ByteBuffer buffer, long at, int total, CompletableFuture<Integer> read) {
+            try {
+                channel.read(buffer, at, null, new CompletionHandler<Integer, Void>() {
+                    @Override
+                    public void completed(Integer n, Void attachment) {
+                        if (n < 0) {
+                            read.complete(total == 0 ? -1 : total);
+                        } else if (!buffer.hasRemaining()) {
+                            read.complete(total + n);
+                        } else {
+                            // A short read; keep filling the block so that later blocks stay at their positions.
+                            readAt(buffer, at + n, total + n, read);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Throwable t, Void attachment) {
+                        read.completeExceptionally(t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                read.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -1,24 +1,51 @@
 package com.github.scr.j8iterables.core;
 
+import com.google.common.base.FinalizablePhantomReference;
+import com.google.common.base.FinalizableReferenceQueue;
+
 import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
  * A {@link Spliterator} that closes a resource when it is completed via the {@code resourceCloser} callback.
+ * <p>
+ * Spliterators split from this one share the resource, which is closed once all of them have completed. Traversals
+ * that end early, such as a short-circuiting operation or an exception, should {@link #close()} the spliterator, which
+ * closes the resource at most once however many times it is called. As a safety net, a resource whose spliterators
+ * all become unreachable without completing or being closed is closed after garbage collection and counted by
+ * {@link #getLeakedCount()}; the net is set once traversal starts, so a spliterator that was never traversed leaves its
+ * resource to its creator.
  *
  * @author scr on 2/24/17.
  * @apiNote Upon close, any {@link java.io.IOException} is converted to {@link java.io.UncheckedIOException}.
  */
 @SuppressWarnings("WeakerAccess")
-public class CloseableSpliterator<T, R> implements Spliterator<T> {
-    private final R resource;
-    private final Consumer<R> resourceCloser;
+public class CloseableSpliterator<T, R> implements Spliterator<T>, AutoCloseable {
+    private static final FinalizableReferenceQueue LEAK_QUEUE = new FinalizableReferenceQueue();
+    // Phantom references must stay reachable until they are enqueued.
+    private static final Set<Reference<?>> LEAK_REFERENCES = ConcurrentHashMap.newKeySet();
+    private static final LongAdder OPENED = new LongAdder();
+    private static final LongAdder CLOSED = new LongAdder();
+    private static final LongAdder LEAKED = new LongAdder();
+
+    private final Handle<R> handle;
+    // Held only for its reachability, which tells the leak reference when every spliterator is gone.
+    @SuppressWarnings({"unused", "FieldCanBeLocal"})
+    private final Object reachability;
     private final Spliterator<T> backingSpliterator;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private boolean armed;
 
     /**
      * Creates a {@link CloseableSpliterator} that invokes the {@link Consumer} with the {@code resource} when complete.
@@ -28,30 +55,63 @@ public class CloseableSpliterator<T, R> implements Spliterator<T> {
      * @param backingSpliterator the real {@link Spliterator} to wrap
      */
     public CloseableSpliterator(R resource, Consumer<R> resourceCloser, Spliterator<T> backingSpliterator) {
-        this.resource = resource;
-        this.resourceCloser = resourceCloser;
+        this.reachability = new Object();
+        this.handle = new Handle<>(resource, resourceCloser);
+        this.backingSpliterator = backingSpliterator;
+        OPENED.increment();
+    }
+
+    private CloseableSpliterator(CloseableSpliterator<T, R> parent, Spliterator<T> backingSpliterator) {
+        this.handle = parent.handle;
+        this.reachability = parent.reachability;
         this.backingSpliterator = backingSpliterator;
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
+        if (isClosed()) {
+            // The resource is gone, so the backing spliterator must not be read.
+            return false;
+        }
+        arm();
         boolean ret = backingSpliterator.tryAdvance(action);
         if (!ret) {
-            resourceCloser.accept(resource);
+            release();
         }
         return ret;
     }
 
     @Override
     public void forEachRemaining(Consumer<? super T> action) {
-        backingSpliterator.forEachRemaining(action);
-        resourceCloser.accept(resource);
+        if (isClosed()) {
+            return;
+        }
+        arm();
+        try {
+            backingSpliterator.forEachRemaining(action);
+        } finally {
+            release();
+        }
     }
 
+    /**
+     * Split the backing spliterator; the split shares the resource, which is closed once both have completed.
+     *
+     * @return the split, or {@code null}
+     */
     @Override
     @Nullable
     public Spliterator<T> trySplit() {
-        return backingSpliterator.trySplit();
+        arm();
+        Spliterator<T> split = backingSpliterator.trySplit();
+        if (split == null) {
+            return null;
+        }
+        if (!handle.retain()) {
+            // Already closed; the split will find nothing to close.
+            return split;
+        }
+        return new CloseableSpliterator<>(this, split);
     }
 
     @Override
@@ -80,6 +140,65 @@ public class CloseableSpliterator<T, R> implements Spliterator<T> {
         return backingSpliterator.getComparator();
     }
 
+    /**
+     * Close the resource now, even if this spliterator or ones split from it have not completed; does nothing if it is
+     * already closed. Once closed, the spliterators have no more elements.
+     */
+    @Override
+    public void close() {
+        handle.close();
+    }
+
+    /**
+     * Whether the resource has been closed.
+     *
+     * @return {@code true} once the resource has been closed
+     */
+    public boolean isClosed() {
+        return handle.closed.get();
+    }
+
+    /**
+     * The number of resources given to {@link CloseableSpliterator}s so far.
+     *
+     * @return the count of resources opened
+     */
+    public static long getOpenedCount() {
+        return OPENED.sum();
+    }
+
+    /**
+     * The number of resources closed by completion, {@link #close()} or the leak safety net.
+     *
+     * @return the count of resources closed
+     */
+    public static long getClosedCount() {
+        return CLOSED.sum();
+    }
+
+    /**
+     * The number of resources closed by the safety net after their spliterators became unreachable without completing
+     * or being closed; a growing count means that a pipeline does not close its streams.
+     *
+     * @return the count of leaked resources
+     */
+    public static long getLeakedCount() {
+        return LEAKED.sum();
+    }
+
+    private void arm() {
+        if (!armed) {
+            armed = true;
+            handle.arm(reachability);
+        }
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            handle.release();
+        }
+    }
+
     /**
      * As a convenience for {@link Closeable} resources, creates a {@link CloseableSpliterator} that calls
      * {@link Closeable#close()} on the resource when done.
@@ -101,4 +220,92 @@ public class CloseableSpliterator<T, R> implements Spliterator<T> {
             }
         }, backingSpliterator);
     }
+
+    /**
+     * The resource shared by a spliterator and those split from it, with a count of those not yet completed.
+     */
+    private static final class Handle<R> {
+        final R resource;
+        final Consumer<R> resourceCloser;
+        final AtomicInteger references = new AtomicInteger(1);
+        final AtomicBoolean closed = new AtomicBoolean();
+        @Nullable
+        private LeakReference leakReference;
+
+        Handle(R resource, Consumer<R> resourceCloser) {
+            this.resource = resource;
+            this.resourceCloser = resourceCloser;
+        }
+
+        /**
+         * Set the safety net for the spliterators whose reachability is tracked by {@code reachability}, unless it is
+         * already set or the resource is closed.
+         */
+        synchronized void arm(Object reachability) {
+            if (leakReference == null && !closed.get()) {
+                leakReference = new LeakReference(reachability, this);
+                LEAK_REFERENCES.add(leakReference);
+            }
+        }
+
+        boolean retain() {
+            while (true) {
+                int count = references.get();
+                if (count <= 0) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                close();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                references.set(0);
+                LeakReference reference;
+                synchronized (this) {
+                    reference = leakReference;
+                }
+                if (reference != null) {
+                    LEAK_REFERENCES.remove(reference);
+                    reference.clear();
+                }
+                CLOSED.increment();
+                resourceCloser.accept(resource);
+            }
+        }
+    }
+
+    /**
+     * Closes the resource of a handle once none of its spliterators are reachable; refers to the handle but not to the
+     * spliterators, so as not to keep them reachable.
+     */
+    private static final class LeakReference extends FinalizablePhantomReference<Object> {
+        private final Handle<?> handle;
+
+        LeakReference(Object reachability, Handle<?> handle) {
+            super(reachability, LEAK_QUEUE);
+            this.handle = handle;
+        }
+
+        @Override
+        public void finalizeReferent() {
+            LEAK_REFERENCES.remove(this);
+            if (!handle.closed.get()) {
+                LEAKED.increment();
+                try {
+                    handle.close();
+                } catch (RuntimeException e) {
+                    // Nobody is left to report this to.
+                }
+            }
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.github.scr.j8iterables.core;
 
 import javax.annotation.Nonnull;
+import java.util.Optional;
+import java.util.stream.Collector;
 
 /**
  * Encapsulate the first and last elements of a list.
@@ -65,6 +67,20 @@ public class Ends<T> {
         return new Ends<>(first, last);
     }
 
+    /**
+     * A collector of the first and last elements, which is {@link Optional#empty()} if there are none.
+     * <p>
+     * Partial results are combined by keeping the first of the left and the last of the right, so the collector works
+     * on ordered parallel streams.
+     *
+     * @param <T> the type of elements
+     * @return a collector of the ends
+     */
+    @Nonnull
+    public static <T> Collector<T, ?, Optional<Ends<T>>> collector() {
+        return Collector.of(Accumulator<T>::new, Accumulator::accept, Accumulator::combine, Accumulator::finish);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -87,4 +103,35 @@ public class Ends<T> {
                 ", last=" + last +
                 '}';
     }
+
+    /**
+     * Mutable container of the ends seen so far.
+     */
+    private static final class Accumulator<T> {
+        private boolean seen;
+        private T first;
+        private T last;
+
+        void accept(T t) {
+            if (!seen) {
+                seen = true;
+                first = t;
+            }
+            last = t;
+        }
+
+        Accumulator<T> combine(Accumulator<T> right) {
+            if (!seen) {
+                return right;
+            }
+            if (right.seen) {
+                last = right.last;
+            }
+            return this;
+        }
+
+        Optional<Ends<T>> finish() {
+            return seen ? Optional.of(new Ends<>(first, last)) : Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,398 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link J8PrimitiveIterable.OfDouble} with lazy, boxing-free transformations in the style of {@link FluentIterable}.
+ * <p>
+ * Each transformation returns a new iterable that chains {@link PrimitiveIterator.OfDouble}s over this one when iterated,
+ * so it may be iterated any number of times and reflects changes to the source. Terminal operations are in
+ * {@link com.github.scr.j8iterables.J8PrimitiveIterables}.
+ *
+ * @author scr
+ */
+public abstract class FluentDoubleIterable implements J8PrimitiveIterable.OfDouble {
+    /**
+     * Wrap {@code doubleIterable} as a FluentDoubleIterable, unless it already is one.
+     *
+     * @param doubleIterable the iterable to wrap
+     * @return a fluent view of {@code doubleIterable}
+     */
+    @Nonnull
+    public static FluentDoubleIterable from(J8PrimitiveIterable.OfDouble doubleIterable) {
+        if (doubleIterable instanceof FluentDoubleIterable) {
+            return (FluentDoubleIterable) doubleIterable;
+        }
+        return new FluentDoubleIterable() {
+            @Override
+            public PrimitiveIterator.OfDouble primitiveIterator() {
+                return doubleIterable.primitiveIterator();
+            }
+
+            @Override
+            public Spliterator.OfDouble primitiveSpliterator() {
+                return doubleIterable.primitiveSpliterator();
+            }
+        };
+    }
+
+    /**
+     * Create an iterable over {@code values}.
+     *
+     * @param values the doubles to iterate; not copied
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static DoubleArrayIterable of(double... values) {
+        return new DoubleArrayIterable(values);
+    }
+
+    /**
+     * By default, an ordered spliterator of unknown size over {@link #primitiveIterator()}.
+     *
+     * @return a spliterator over the doubles
+     */
+    @Override
+    public Spliterator.OfDouble primitiveSpliterator() {
+        return Spliterators.spliteratorUnknownSize(primitiveIterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each double.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentDoubleIterable map(DoubleUnaryOperator mapper) {
+        return fromIterators(() -> new MapIterator(primitiveIterator(), mapper));
+    }
+
+    /**
+     * Keep only the doubles that match {@code predicate}.
+     *
+     * @param predicate the predicate doubles must match
+     * @return a lazily filtered view
+     */
+    @Nonnull
+    public FluentDoubleIterable filter(DoublePredicate predicate) {
+        return fromIterators(() -> new FilterIterator(primitiveIterator(), predicate));
+    }
+
+    /**
+     * Keep at most the first {@code maxSize} doubles.
+     *
+     * @param maxSize the maximum number of doubles
+     * @return a lazily truncated view
+     */
+    @Nonnull
+    public FluentDoubleIterable limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        return fromIterators(() -> new LimitIterator(primitiveIterator(), maxSize));
+    }
+
+    /**
+     * Skip the first {@code n} doubles.
+     *
+     * @param n the number of doubles to skip
+     * @return a lazy view of the remaining doubles
+     */
+    @Nonnull
+    public FluentDoubleIterable skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return fromIterators(() -> {
+            PrimitiveIterator.OfDouble iterator = primitiveIterator();
+            for (long i = 0; i < n && iterator.hasNext(); ++i) {
+                iterator.nextDouble();
+            }
+            return iterator;
+        });
+    }
+
+    /**
+     * Pass each double to {@code action} as it is iterated.
+     *
+     * @param action the action to perform on each int
+     * @return a lazily peeking view
+     */
+    @Nonnull
+    public FluentDoubleIterable peek(DoubleConsumer action) {
+        return map(i -> {
+            action.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Remove consecutive duplicates; for sorted input, this removes all duplicates without remembering those seen.
+     *
+     * @return a lazy view without consecutive duplicates
+     */
+    @Nonnull
+    public FluentDoubleIterable distinct() {
+        return fromIterators(() -> new DistinctIterator(primitiveIterator()));
+    }
+
+    /**
+     * Apply {@code mapper} to each double.
+     *
+     * @param mapper the function to apply
+     * @param <R>    the type of the mapped elements
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public <R> FluentIterable<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return new SupplierIterable<>(() -> new Iterator<R>() {
+            private final PrimitiveIterator.OfDouble iterator = primitiveIterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return mapper.apply(iterator.nextDouble());
+            }
+        }, Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each double.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentIntIterable mapToInt(DoubleToIntFunction mapper) {
+        return new FluentIntIterable() {
+            @Override
+            public PrimitiveIterator.OfInt primitiveIterator() {
+                PrimitiveIterator.OfDouble iterator = FluentDoubleIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfInt() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public int nextInt() {
+                        return mapper.applyAsInt(iterator.nextDouble());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Apply {@code mapper} to each double.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentLongIterable mapToLong(DoubleToLongFunction mapper) {
+        return new FluentLongIterable() {
+            @Override
+            public PrimitiveIterator.OfLong primitiveIterator() {
+                PrimitiveIterator.OfDouble iterator = FluentDoubleIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfLong() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public long nextLong() {
+                        return mapper.applyAsLong(iterator.nextDouble());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Perform {@code action} on each double.
+     *
+     * @param action the action to perform
+     */
+    public void forEachDouble(DoubleConsumer action) {
+        primitiveIterator().forEachRemaining(action);
+    }
+
+    /**
+     * Copy the doubles into a new array.
+     *
+     * @return an array of the doubles
+     */
+    @Nonnull
+    public double[] toArray() {
+        DoubleArrayIterable.Builder builder = DoubleArrayIterable.builder();
+        forEachDouble(builder);
+        return builder.build().toArray();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static FluentDoubleIterable fromIterators(Supplier<PrimitiveIterator.OfDouble> supplier) {
+        return new FluentDoubleIterable() {
+            @Override
+            public PrimitiveIterator.OfDouble primitiveIterator() {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Base of iterators that compute the next double ahead of {@link #nextDouble()}.
+     */
+    private abstract static class LookaheadIterator implements PrimitiveIterator.OfDouble {
+        private boolean ready;
+        private double next;
+
+        /**
+         * Compute the next double.
+         *
+         * @return whether there was a next double, which was passed to {@link #setNext(double)}
+         */
+        abstract boolean computeNext();
+
+        final void setNext(double next) {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                ready = computeNext();
+            }
+            return ready;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return next;
+        }
+    }
+
+    private static final class MapIterator implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private final DoubleUnaryOperator mapper;
+
+        MapIterator(PrimitiveIterator.OfDouble iterator, DoubleUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            return mapper.applyAsDouble(iterator.nextDouble());
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            iterator.forEachRemaining((double i) -> action.accept(mapper.applyAsDouble(i)));
+        }
+    }
+
+    private static final class FilterIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfDouble iterator;
+        private final DoublePredicate predicate;
+
+        FilterIterator(PrimitiveIterator.OfDouble iterator, DoublePredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                double i = iterator.nextDouble();
+                if (predicate.test(i)) {
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class LimitIterator implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble iterator;
+        private long remaining;
+
+        LimitIterator(PrimitiveIterator.OfDouble iterator, long maxSize) {
+            this.iterator = iterator;
+            this.remaining = maxSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            --remaining;
+            return iterator.nextDouble();
+        }
+    }
+
+    private static final class DistinctIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfDouble iterator;
+        private boolean started;
+        private double previous;
+
+        DistinctIterator(PrimitiveIterator.OfDouble iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                double i = iterator.nextDouble();
+                if (!started || Double.compare(i, previous) != 0) {
+                    started = true;
+                    previous = i;
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link J8PrimitiveIterable.OfInt} with lazy, boxing-free transformations in the style of {@link FluentIterable}.
+ * <p>
+ * Each transformation returns a new iterable that chains {@link PrimitiveIterator.OfInt}s over this one when iterated,
+ * so it may be iterated any number of times and reflects changes to the source. Terminal operations are in
+ * {@link com.github.scr.j8iterables.J8PrimitiveIterables}.
+ *
+ * @author scr
+ */
+public abstract class FluentIntIterable implements J8PrimitiveIterable.OfInt {
+    /**
+     * Wrap {@code intIterable} as a FluentIntIterable, unless it already is one.
+     *
+     * @param intIterable the iterable to wrap
+     * @return a fluent view of {@code intIterable}
+     */
+    @Nonnull
+    public static FluentIntIterable from(J8PrimitiveIterable.OfInt intIterable) {
+        if (intIterable instanceof FluentIntIterable) {
+            return (FluentIntIterable) intIterable;
+        }
+        return new FluentIntIterable() {
+            @Override
+            public PrimitiveIterator.OfInt primitiveIterator() {
+                return intIterable.primitiveIterator();
+            }
+
+            @Override
+            public Spliterator.OfInt primitiveSpliterator() {
+                return intIterable.primitiveSpliterator();
+            }
+        };
+    }
+
+    /**
+     * Create an iterable over {@code values}.
+     *
+     * @param values the ints to iterate; not copied
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static IntArrayIterable of(int... values) {
+        return new IntArrayIterable(values);
+    }
+
+    /**
+     * By default, an ordered spliterator of unknown size over {@link #primitiveIterator()}.
+     *
+     * @return a spliterator over the ints
+     */
+    @Override
+    public Spliterator.OfInt primitiveSpliterator() {
+        return Spliterators.spliteratorUnknownSize(primitiveIterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each int.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentIntIterable map(IntUnaryOperator mapper) {
+        return fromIterators(() -> new MapIterator(primitiveIterator(), mapper));
+    }
+
+    /**
+     * Keep only the ints that match {@code predicate}.
+     *
+     * @param predicate the predicate ints must match
+     * @return a lazily filtered view
+     */
+    @Nonnull
+    public FluentIntIterable filter(IntPredicate predicate) {
+        return fromIterators(() -> new FilterIterator(primitiveIterator(), predicate));
+    }
+
+    /**
+     * Keep at most the first {@code maxSize} ints.
+     *
+     * @param maxSize the maximum number of ints
+     * @return a lazily truncated view
+     */
+    @Nonnull
+    public FluentIntIterable limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        return fromIterators(() -> new LimitIterator(primitiveIterator(), maxSize));
+    }
+
+    /**
+     * Skip the first {@code n} ints.
+     *
+     * @param n the number of ints to skip
+     * @return a lazy view of the remaining ints
+     */
+    @Nonnull
+    public FluentIntIterable skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return fromIterators(() -> {
+            PrimitiveIterator.OfInt iterator = primitiveIterator();
+            for (long i = 0; i < n && iterator.hasNext(); ++i) {
+                iterator.nextInt();
+            }
+            return iterator;
+        });
+    }
+
+    /**
+     * Pass each int to {@code action} as it is iterated.
+     *
+     * @param action the action to perform on each int
+     * @return a lazily peeking view
+     */
+    @Nonnull
+    public FluentIntIterable peek(IntConsumer action) {
+        return map(i -> {
+            action.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Remove consecutive duplicates; for sorted input, this removes all duplicates without remembering those seen.
+     *
+     * @return a lazy view without consecutive duplicates
+     */
+    @Nonnull
+    public FluentIntIterable distinct() {
+        return fromIterators(() -> new DistinctIterator(primitiveIterator()));
+    }
+
+    /**
+     * Apply {@code mapper} to each int.
+     *
+     * @param mapper the function to apply
+     * @param <R>    the type of the mapped elements
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public <R> FluentIterable<R> mapToObj(IntFunction<? extends R> mapper) {
+        return new SupplierIterable<>(() -> new Iterator<R>() {
+            private final PrimitiveIterator.OfInt iterator = primitiveIterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return mapper.apply(iterator.nextInt());
+            }
+        }, Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each int.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentLongIterable mapToLong(IntToLongFunction mapper) {
+        return new FluentLongIterable() {
+            @Override
+            public PrimitiveIterator.OfLong primitiveIterator() {
+                PrimitiveIterator.OfInt iterator = FluentIntIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfLong() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public long nextLong() {
+                        return mapper.applyAsLong(iterator.nextInt());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Apply {@code mapper} to each int.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentDoubleIterable mapToDouble(IntToDoubleFunction mapper) {
+        return new FluentDoubleIterable() {
+            @Override
+            public PrimitiveIterator.OfDouble primitiveIterator() {
+                PrimitiveIterator.OfInt iterator = FluentIntIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfDouble() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public double nextDouble() {
+                        return mapper.applyAsDouble(iterator.nextInt());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Widen each int to a long.
+     *
+     * @return a lazily widened view
+     */
+    @Nonnull
+    public FluentLongIterable asLongIterable() {
+        return mapToLong(i -> i);
+    }
+
+    /**
+     * Widen each int to a double.
+     *
+     * @return a lazily widened view
+     */
+    @Nonnull
+    public FluentDoubleIterable asDoubleIterable() {
+        return mapToDouble(i -> i);
+    }
+
+    /**
+     * Perform {@code action} on each int.
+     *
+     * @param action the action to perform
+     */
+    public void forEachInt(IntConsumer action) {
+        primitiveIterator().forEachRemaining(action);
+    }
+
+    /**
+     * Copy the ints into a new array.
+     *
+     * @return an array of the ints
+     */
+    @Nonnull
+    public int[] toArray() {
+        IntArrayIterable.Builder builder = IntArrayIterable.builder();
+        forEachInt(builder);
+        return builder.build().toArray();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static FluentIntIterable fromIterators(Supplier<PrimitiveIterator.OfInt> supplier) {
+        return new FluentIntIterable() {
+            @Override
+            public PrimitiveIterator.OfInt primitiveIterator() {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Base of iterators that compute the next int ahead of {@link #nextInt()}.
+     */
+    private abstract static class LookaheadIterator implements PrimitiveIterator.OfInt {
+        private boolean ready;
+        private int next;
+
+        /**
+         * Compute the next int.
+         *
+         * @return whether there was a next int, which was passed to {@link #setNext(int)}
+         */
+        abstract boolean computeNext();
+
+        final void setNext(int next) {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                ready = computeNext();
+            }
+            return ready;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return next;
+        }
+    }
+
+    private static final class MapIterator implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private final IntUnaryOperator mapper;
+
+        MapIterator(PrimitiveIterator.OfInt iterator, IntUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return mapper.applyAsInt(iterator.nextInt());
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            iterator.forEachRemaining((int i) -> action.accept(mapper.applyAsInt(i)));
+        }
+    }
+
+    private static final class FilterIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfInt iterator;
+        private final IntPredicate predicate;
+
+        FilterIterator(PrimitiveIterator.OfInt iterator, IntPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                int i = iterator.nextInt();
+                if (predicate.test(i)) {
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class LimitIterator implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt iterator;
+        private long remaining;
+
+        LimitIterator(PrimitiveIterator.OfInt iterator, long maxSize) {
+            this.iterator = iterator;
+            this.remaining = maxSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            --remaining;
+            return iterator.nextInt();
+        }
+    }
+
+    private static final class DistinctIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfInt iterator;
+        private boolean started;
+        private int previous;
+
+        DistinctIterator(PrimitiveIterator.OfInt iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                int i = iterator.nextInt();
+                if (!started || i != previous) {
+                    started = true;
+                    previous = i;
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
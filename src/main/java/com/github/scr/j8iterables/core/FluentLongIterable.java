@@ -0,0 +1,408 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link J8PrimitiveIterable.OfLong} with lazy, boxing-free transformations in the style of {@link FluentIterable}.
+ * <p>
+ * Each transformation returns a new iterable that chains {@link PrimitiveIterator.OfLong}s over this one when iterated,
+ * so it may be iterated any number of times and reflects changes to the source. Terminal operations are in
+ * {@link com.github.scr.j8iterables.J8PrimitiveIterables}.
+ *
+ * @author scr
+ */
+public abstract class FluentLongIterable implements J8PrimitiveIterable.OfLong {
+    /**
+     * Wrap {@code longIterable} as a FluentLongIterable, unless it already is one.
+     *
+     * @param longIterable the iterable to wrap
+     * @return a fluent view of {@code longIterable}
+     */
+    @Nonnull
+    public static FluentLongIterable from(J8PrimitiveIterable.OfLong longIterable) {
+        if (longIterable instanceof FluentLongIterable) {
+            return (FluentLongIterable) longIterable;
+        }
+        return new FluentLongIterable() {
+            @Override
+            public PrimitiveIterator.OfLong primitiveIterator() {
+                return longIterable.primitiveIterator();
+            }
+
+            @Override
+            public Spliterator.OfLong primitiveSpliterator() {
+                return longIterable.primitiveSpliterator();
+            }
+        };
+    }
+
+    /**
+     * Create an iterable over {@code values}.
+     *
+     * @param values the longs to iterate; not copied
+     * @return an array-backed iterable
+     */
+    @Nonnull
+    public static LongArrayIterable of(long... values) {
+        return new LongArrayIterable(values);
+    }
+
+    /**
+     * By default, an ordered spliterator of unknown size over {@link #primitiveIterator()}.
+     *
+     * @return a spliterator over the longs
+     */
+    @Override
+    public Spliterator.OfLong primitiveSpliterator() {
+        return Spliterators.spliteratorUnknownSize(primitiveIterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each long.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentLongIterable map(LongUnaryOperator mapper) {
+        return fromIterators(() -> new MapIterator(primitiveIterator(), mapper));
+    }
+
+    /**
+     * Keep only the longs that match {@code predicate}.
+     *
+     * @param predicate the predicate longs must match
+     * @return a lazily filtered view
+     */
+    @Nonnull
+    public FluentLongIterable filter(LongPredicate predicate) {
+        return fromIterators(() -> new FilterIterator(primitiveIterator(), predicate));
+    }
+
+    /**
+     * Keep at most the first {@code maxSize} longs.
+     *
+     * @param maxSize the maximum number of longs
+     * @return a lazily truncated view
+     */
+    @Nonnull
+    public FluentLongIterable limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        return fromIterators(() -> new LimitIterator(primitiveIterator(), maxSize));
+    }
+
+    /**
+     * Skip the first {@code n} longs.
+     *
+     * @param n the number of longs to skip
+     * @return a lazy view of the remaining longs
+     */
+    @Nonnull
+    public FluentLongIterable skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return fromIterators(() -> {
+            PrimitiveIterator.OfLong iterator = primitiveIterator();
+            for (long i = 0; i < n && iterator.hasNext(); ++i) {
+                iterator.nextLong();
+            }
+            return iterator;
+        });
+    }
+
+    /**
+     * Pass each long to {@code action} as it is iterated.
+     *
+     * @param action the action to perform on each int
+     * @return a lazily peeking view
+     */
+    @Nonnull
+    public FluentLongIterable peek(LongConsumer action) {
+        return map(i -> {
+            action.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Remove consecutive duplicates; for sorted input, this removes all duplicates without remembering those seen.
+     *
+     * @return a lazy view without consecutive duplicates
+     */
+    @Nonnull
+    public FluentLongIterable distinct() {
+        return fromIterators(() -> new DistinctIterator(primitiveIterator()));
+    }
+
+    /**
+     * Apply {@code mapper} to each long.
+     *
+     * @param mapper the function to apply
+     * @param <R>    the type of the mapped elements
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public <R> FluentIterable<R> mapToObj(LongFunction<? extends R> mapper) {
+        return new SupplierIterable<>(() -> new Iterator<R>() {
+            private final PrimitiveIterator.OfLong iterator = primitiveIterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return mapper.apply(iterator.nextLong());
+            }
+        }, Spliterator.ORDERED);
+    }
+
+    /**
+     * Apply {@code mapper} to each long.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentIntIterable mapToInt(LongToIntFunction mapper) {
+        return new FluentIntIterable() {
+            @Override
+            public PrimitiveIterator.OfInt primitiveIterator() {
+                PrimitiveIterator.OfLong iterator = FluentLongIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfInt() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public int nextInt() {
+                        return mapper.applyAsInt(iterator.nextLong());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Apply {@code mapper} to each long.
+     *
+     * @param mapper the function to apply
+     * @return a lazily mapped view
+     */
+    @Nonnull
+    public FluentDoubleIterable mapToDouble(LongToDoubleFunction mapper) {
+        return new FluentDoubleIterable() {
+            @Override
+            public PrimitiveIterator.OfDouble primitiveIterator() {
+                PrimitiveIterator.OfLong iterator = FluentLongIterable.this.primitiveIterator();
+                return new PrimitiveIterator.OfDouble() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public double nextDouble() {
+                        return mapper.applyAsDouble(iterator.nextLong());
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Widen each long to a double.
+     *
+     * @return a lazily widened view
+     */
+    @Nonnull
+    public FluentDoubleIterable asDoubleIterable() {
+        return mapToDouble(l -> l);
+    }
+
+    /**
+     * Perform {@code action} on each long.
+     *
+     * @param action the action to perform
+     */
+    public void forEachLong(LongConsumer action) {
+        primitiveIterator().forEachRemaining(action);
+    }
+
+    /**
+     * Copy the longs into a new array.
+     *
+     * @return an array of the longs
+     */
+    @Nonnull
+    public long[] toArray() {
+        LongArrayIterable.Builder builder = LongArrayIterable.builder();
+        forEachLong(builder);
+        return builder.build().toArray();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static FluentLongIterable fromIterators(Supplier<PrimitiveIterator.OfLong> supplier) {
+        return new FluentLongIterable() {
+            @Override
+            public PrimitiveIterator.OfLong primitiveIterator() {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Base of iterators that compute the next long ahead of {@link #nextLong()}.
+     */
+    private abstract static class LookaheadIterator implements PrimitiveIterator.OfLong {
+        private boolean ready;
+        private long next;
+
+        /**
+         * Compute the next long.
+         *
+         * @return whether there was a next long, which was passed to {@link #setNext(long)}
+         */
+        abstract boolean computeNext();
+
+        final void setNext(long next) {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) {
+                ready = computeNext();
+            }
+            return ready;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ready = false;
+            return next;
+        }
+    }
+
+    private static final class MapIterator implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private final LongUnaryOperator mapper;
+
+        MapIterator(PrimitiveIterator.OfLong iterator, LongUnaryOperator mapper) {
+            this.iterator = iterator;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return mapper.applyAsLong(iterator.nextLong());
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            iterator.forEachRemaining((long i) -> action.accept(mapper.applyAsLong(i)));
+        }
+    }
+
+    private static final class FilterIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfLong iterator;
+        private final LongPredicate predicate;
+
+        FilterIterator(PrimitiveIterator.OfLong iterator, LongPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                long i = iterator.nextLong();
+                if (predicate.test(i)) {
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class LimitIterator implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong iterator;
+        private long remaining;
+
+        LimitIterator(PrimitiveIterator.OfLong iterator, long maxSize) {
+            this.iterator = iterator;
+            this.remaining = maxSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && iterator.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            --remaining;
+            return iterator.nextLong();
+        }
+    }
+
+    private static final class DistinctIterator extends LookaheadIterator {
+        private final PrimitiveIterator.OfLong iterator;
+        private boolean started;
+        private long previous;
+
+        DistinctIterator(PrimitiveIterator.OfLong iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean computeNext() {
+            while (iterator.hasNext()) {
+                long i = iterator.nextLong();
+                if (!started || i != previous) {
+                    started = true;
+                    previous = i;
+                    setNext(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters and a sampled latency histogram for the iterations of one metered iterable.
+ * <p>
+ * Every {@code sampleEvery}th element (and the first) has the time spent in the source iterator's {@code hasNext} and
+ * {@code next} measured and recorded in a histogram with power-of-two buckets. Element counts are accumulated per
+ * iterator and published at each sample and on exhaustion, so an abandoned iterator may leave fewer than
+ * {@code sampleEvery} elements uncounted.
+ *
+ * @author scr
+ * @see IterationMetricsRegistry
+ * @see MeteredIterator
+ */
+public class IterationMetrics implements IterationMetricsMXBean {
+    /**
+     * The default distance between elements whose {@code next} is timed.
+     */
+    public static final int DEFAULT_SAMPLE_EVERY = 64;
+
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final int sampleEvery;
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder firstElements = new LongAdder();
+    private final LongAdder firstElementNanos = new LongAdder();
+    private final LongAdder traversalNanos = new LongAdder();
+    private final LongAdder sampledNexts = new LongAdder();
+    private final LongAdder sampledNextNanos = new LongAdder();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Create metrics timing every {@link #DEFAULT_SAMPLE_EVERY}th element.
+     *
+     * @param name the name of the metrics
+     */
+    public IterationMetrics(String name) {
+        this(name, DEFAULT_SAMPLE_EVERY);
+    }
+
+    /**
+     * Create metrics timing every {@code sampleEvery}th element.
+     *
+     * @param name        the name of the metrics
+     * @param sampleEvery the distance between elements whose {@code next} is timed
+     */
+    public IterationMetrics(String name, int sampleEvery) {
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("sampleEvery must be positive: " + sampleEvery);
+        }
+        this.name = name;
+        this.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * The distance between elements whose {@code next} is timed.
+     *
+     * @return the sampling distance
+     */
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    void recordStarted() {
+        started.increment();
+    }
+
+    void recordElements(long count) {
+        elements.add(count);
+    }
+
+    void recordFirstElement(long nanos) {
+        firstElements.increment();
+        firstElementNanos.add(nanos);
+    }
+
+    void recordNext(long nanos) {
+        sampledNexts.increment();
+        sampledNextNanos.add(nanos);
+        histogram.incrementAndGet(bucketOf(nanos));
+    }
+
+    void recordCompleted(long nanos) {
+        completed.increment();
+        traversalNanos.add(nanos);
+    }
+
+    /**
+     * Copy the metrics. Counters are read one at a time, so they may disagree slightly while iterations are running.
+     *
+     * @return a snapshot
+     */
+    @Nonnull
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            buckets[i] = histogram.get(i);
+        }
+        return new Snapshot(name, started.sum(), completed.sum(), elements.sum(),
+                mean(firstElementNanos.sum(), firstElements.sum()), mean(traversalNanos.sum(), completed.sum()),
+                mean(sampledNextNanos.sum(), sampledNexts.sum()), buckets);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getIterationsStarted() {
+        return started.sum();
+    }
+
+    @Override
+    public long getIterationsCompleted() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getMeanTimeToFirstElementNanos() {
+        return mean(firstElementNanos.sum(), firstElements.sum());
+    }
+
+    @Override
+    public long getMeanTraversalNanos() {
+        return mean(traversalNanos.sum(), completed.sum());
+    }
+
+    @Override
+    public long getMeanNextNanos() {
+        return mean(sampledNextNanos.sum(), sampledNexts.sum());
+    }
+
+    @Override
+    public long getNextLatencyP50Nanos() {
+        return snapshot().getNextLatencyPercentileNanos(50);
+    }
+
+    @Override
+    public long getNextLatencyP99Nanos() {
+        return snapshot().getNextLatencyPercentileNanos(99);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private static long mean(long total, long count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * The histogram bucket for a duration: bucket {@code i > 0} holds {@code [2^i, 2^(i+1))} nanoseconds.
+     */
+    private static int bucketOf(long nanos) {
+        return nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * An immutable copy of {@link IterationMetrics}.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long iterationsStarted;
+        private final long iterationsCompleted;
+        private final long elements;
+        private final long meanTimeToFirstElementNanos;
+        private final long meanTraversalNanos;
+        private final long meanNextNanos;
+        private final long[] nextLatencyHistogram;
+
+        Snapshot(String name, long iterationsStarted, long iterationsCompleted, long elements,
+                 long meanTimeToFirstElementNanos, long meanTraversalNanos, long meanNextNanos,
+                 long[] nextLatencyHistogram) {
+            this.name = name;
+            this.iterationsStarted = iterationsStarted;
+            this.iterationsCompleted = iterationsCompleted;
+            this.elements = elements;
+            this.meanTimeToFirstElementNanos = meanTimeToFirstElementNanos;
+            this.meanTraversalNanos = meanTraversalNanos;
+            this.meanNextNanos = meanNextNanos;
+            this.nextLatencyHistogram = nextLatencyHistogram;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getIterationsStarted() {
+            return iterationsStarted;
+        }
+
+        public long getIterationsCompleted() {
+            return iterationsCompleted;
+        }
+
+        public long getElements() {
+            return elements;
+        }
+
+        public long getMeanTimeToFirstElementNanos() {
+            return meanTimeToFirstElementNanos;
+        }
+
+        public long getMeanTraversalNanos() {
+            return meanTraversalNanos;
+        }
+
+        public long getMeanNextNanos() {
+            return meanNextNanos;
+        }
+
+        /**
+         * The number of sampled {@code next} calls in each power-of-two bucket of nanoseconds.
+         *
+         * @return a copy of the histogram
+         */
+        @Nonnull
+        public long[] getNextLatencyHistogram() {
+            return nextLatencyHistogram.clone();
+        }
+
+        /**
+         * Estimate a percentile of the time spent in the source iterator's {@code hasNext} and {@code next}.
+         *
+         * @param percentile the percentile, in {@code [0, 100]}
+         * @return the upper bound of the bucket holding the percentile, in nanoseconds, or 0 if nothing was sampled
+         */
+        public long getNextLatencyPercentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in [0, 100]: " + percentile);
+            }
+            long total = 0;
+            for (long count : nextLatencyHistogram) {
+                total += count;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < nextLatencyHistogram.length; ++i) {
+                seen += nextLatencyHistogram[i];
+                if (seen >= rank) {
+                    return i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return "IterationMetrics{" +
+                    "name=" + name +
+                    ", iterationsStarted=" + iterationsStarted +
+                    ", iterationsCompleted=" + iterationsCompleted +
+                    ", elements=" + elements +
+                    ", meanTimeToFirstElementNanos=" + meanTimeToFirstElementNanos +
+                    ", meanTraversalNanos=" + meanTraversalNanos +
+                    ", meanNextNanos=" + meanNextNanos +
+                    ", nextLatencyP99Nanos=" + getNextLatencyPercentileNanos(99) +
+                    '}';
+        }
+    }
+}
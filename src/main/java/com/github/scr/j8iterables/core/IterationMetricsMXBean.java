@@ -0,0 +1,72 @@
+package com.github.scr.j8iterables.core;
+
+/**
+ * JMX view of {@link IterationMetrics}.
+ *
+ * @author scr
+ */
+public interface IterationMetricsMXBean {
+    /**
+     * The name the metrics are registered under.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * The number of iterators created.
+     *
+     * @return the count of iterations started
+     */
+    long getIterationsStarted();
+
+    /**
+     * The number of iterators traversed to exhaustion.
+     *
+     * @return the count of iterations completed
+     */
+    long getIterationsCompleted();
+
+    /**
+     * The number of elements produced.
+     *
+     * @return the count of elements
+     */
+    long getElements();
+
+    /**
+     * The mean time from creating an iterator to its first element being returned.
+     *
+     * @return nanoseconds, or 0 if no element has been returned
+     */
+    long getMeanTimeToFirstElementNanos();
+
+    /**
+     * The mean time from creating an iterator to finding it exhausted.
+     *
+     * @return nanoseconds, or 0 if no iteration has completed
+     */
+    long getMeanTraversalNanos();
+
+    /**
+     * The mean time spent in the source iterator's {@code hasNext} and {@code next}, over sampled elements.
+     *
+     * @return nanoseconds, or 0 if no element has been sampled
+     */
+    long getMeanNextNanos();
+
+    /**
+     * The median time spent in the source iterator's {@code hasNext} and {@code next}, over sampled elements.
+     *
+     * @return the upper bound of the histogram bucket holding the median, in nanoseconds
+     */
+    long getNextLatencyP50Nanos();
+
+    /**
+     * The 99th percentile of time spent in the source iterator's {@code hasNext} and {@code next}, over sampled
+     * elements.
+     *
+     * @return the upper bound of the histogram bucket holding the 99th percentile, in nanoseconds
+     */
+    long getNextLatencyP99Nanos();
+}
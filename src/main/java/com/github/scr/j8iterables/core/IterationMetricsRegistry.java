@@ -0,0 +1,113 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A lock-free registry of {@link IterationMetrics} by name, optionally exported via JMX.
+ *
+ * @author scr
+ */
+public class IterationMetricsRegistry {
+    /**
+     * The JMX domain of exported metrics.
+     */
+    public static final String JMX_DOMAIN = "com.github.scr.j8iterables";
+
+    private static final IterationMetricsRegistry DEFAULT = new IterationMetricsRegistry();
+
+    private final ConcurrentMap<String, IterationMetrics> metrics = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile MBeanServer mBeanServer;
+
+    /**
+     * The registry used by {@link com.github.scr.j8iterables.J8Iterables#metered(Iterable, String)} and friends.
+     *
+     * @return the default registry
+     */
+    @Nonnull
+    public static IterationMetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get the metrics named {@code name}, creating (and exporting) them if need be.
+     *
+     * @param name the name of the metrics
+     * @return the metrics
+     */
+    @Nonnull
+    public IterationMetrics metrics(String name) {
+        IterationMetrics ret = metrics.get(name);
+        if (ret != null) {
+            return ret;
+        }
+        IterationMetrics created = new IterationMetrics(name);
+        ret = metrics.putIfAbsent(name, created);
+        if (ret != null) {
+            return ret;
+        }
+        MBeanServer server = mBeanServer;
+        if (server != null) {
+            register(server, created);
+        }
+        return created;
+    }
+
+    /**
+     * Snapshot all metrics.
+     *
+     * @return snapshots by name, in name order
+     */
+    @Nonnull
+    public Map<String, IterationMetrics.Snapshot> snapshot() {
+        Map<String, IterationMetrics.Snapshot> ret = new TreeMap<>();
+        metrics.forEach((name, m) -> ret.put(name, m.snapshot()));
+        return ret;
+    }
+
+    /**
+     * Register all metrics, now and as they are created, as MXBeans named
+     * {@code com.github.scr.j8iterables:type=IterationMetrics,name="<name>"}.
+     *
+     * @param server the server to register with, such as
+     *               {@link java.lang.management.ManagementFactory#getPlatformMBeanServer()}
+     */
+    public void exportTo(MBeanServer server) {
+        mBeanServer = server;
+        metrics.values().forEach(m -> register(server, m));
+    }
+
+    /**
+     * The name metrics are exported under.
+     *
+     * @param name the name of the metrics
+     * @return the JMX object name
+     */
+    @Nonnull
+    public static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=IterationMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static void register(MBeanServer server, IterationMetrics m) {
+        try {
+            server.registerMBean(m, objectName(m.getName()));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already exported, e.g. by exporting twice.
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
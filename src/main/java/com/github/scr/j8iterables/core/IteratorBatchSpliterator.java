@@ -0,0 +1,138 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over an {@link Iterator} that splits off batches of geometrically growing size.
+ * <p>
+ * The first batches are small, so that parallel workers get something to do quickly, and grow by doubling up to a
+ * target that spreads the {@code expectedSize} over a few batches per worker of the target parallelism. Each batch is
+ * copied into an array sized to the batch, which the returned (sized) spliterator owns.
+ *
+ * @param <T> The type of elements
+ * @author scr
+ * @see Spliterators#spliteratorUnknownSize(Iterator, int)
+ */
+public class IteratorBatchSpliterator<T> implements Spliterator<T> {
+    /**
+     * The default size of the first batch.
+     */
+    public static final int DEFAULT_MIN_BATCH = 1 << 6;
+    /**
+     * The largest batch ever split off.
+     */
+    public static final int MAX_BATCH = 1 << 25;
+
+    private final Iterator<? extends T> iterator;
+    private final int characteristics;
+    private final int maxBatch;
+    private long estimatedSize;
+    private int batch;
+
+    /**
+     * Create a spliterator of unknown size, targeting the parallelism of the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param iterator        the iterator to traverse
+     * @param characteristics the characteristics of the iterator's elements
+     */
+    public IteratorBatchSpliterator(Iterator<? extends T> iterator, int characteristics) {
+        this(iterator, Long.MAX_VALUE, characteristics, ForkJoinPool.getCommonPoolParallelism(), DEFAULT_MIN_BATCH);
+    }
+
+    /**
+     * Create a spliterator.
+     *
+     * @param iterator        the iterator to traverse
+     * @param expectedSize    a hint of the number of elements, or {@link Long#MAX_VALUE} if unknown
+     * @param characteristics the characteristics of the iterator's elements
+     * @param parallelism     the number of workers expected to process the splits
+     * @param minBatch        the size of the first batch
+     */
+    public IteratorBatchSpliterator(Iterator<? extends T> iterator, long expectedSize, int characteristics,
+                                    int parallelism, int minBatch) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (minBatch < 1) {
+            throw new IllegalArgumentException("minBatch must be positive: " + minBatch);
+        }
+        this.iterator = iterator;
+        this.estimatedSize = expectedSize;
+        // The expected size is only a hint; never claim to know the exact size.
+        this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        this.batch = Math.min(minBatch, MAX_BATCH);
+        this.maxBatch = expectedSize == Long.MAX_VALUE
+                ? MAX_BATCH
+                : (int) Math.max(batch, Math.min(MAX_BATCH, expectedSize / ((long) parallelism << 2)));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        if (estimatedSize != Long.MAX_VALUE && estimatedSize > 0) {
+            --estimatedSize;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(action);
+        if (estimatedSize != Long.MAX_VALUE) {
+            estimatedSize = 0;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        int n = batch;
+        if (estimatedSize != Long.MAX_VALUE && estimatedSize > 1) {
+            // Leave something for this spliterator so that both halves have work.
+            n = (int) Math.min(n, Math.max(1, estimatedSize >>> 1));
+        }
+        Object[] array = new Object[n];
+        int j = 0;
+        do {
+            array[j] = iterator.next();
+        } while (++j < n && iterator.hasNext());
+        batch = (int) Math.min((long) batch << 1, maxBatch);
+        if (estimatedSize != Long.MAX_VALUE) {
+            estimatedSize = Math.max(0, estimatedSize - j);
+        }
+        return Spliterators.spliterator(array, 0, j, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * The size of the next batch.
+     *
+     * @return the number of elements the next {@link #trySplit()} will take at most
+     */
+    public int getBatchSize() {
+        return batch;
+    }
+}
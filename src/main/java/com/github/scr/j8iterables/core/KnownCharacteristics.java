@@ -0,0 +1,19 @@
+package com.github.scr.j8iterables.core;
+
+import java.util.Spliterator;
+
+/**
+ * Implemented by iterables that know the {@link Spliterator#characteristics()} of their spliterators before creating
+ * them, so that streams over them can bind to the spliterator late, when the terminal operation begins.
+ *
+ * @author scr
+ * @see java.util.stream.StreamSupport#stream(java.util.function.Supplier, int, boolean)
+ */
+public interface KnownCharacteristics {
+    /**
+     * The characteristics that every spliterator of this iterable will report.
+     *
+     * @return the spliterator characteristics
+     */
+    int characteristics();
+}
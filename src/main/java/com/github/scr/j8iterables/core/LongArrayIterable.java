@@ -0,0 +1,319 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link J8PrimitiveIterable.OfLong} over (a strided range of) an {@code long[]}.
+ * <p>
+ * Slices and strides are views that share the array rather than copying it. Spliterators are
+ * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED} and {@link Spliterator#IMMUTABLE},
+ * and split at the exact midpoint.
+ *
+ * @author scr
+ */
+public class LongArrayIterable extends FluentLongIterable implements KnownCharacteristics {
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED |
+            Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    private final long[] array;
+    private final int offset;
+    private final int size;
+    private final int stride;
+
+    /**
+     * Create an iterable over the whole {@code array}.
+     *
+     * @param array the array to iterate; not copied
+     */
+    public LongArrayIterable(long[] array) {
+        this(array, 0, array.length, 1);
+    }
+
+    /**
+     * Create an iterable over {@code size} elements of {@code array}, starting at {@code offset} and advancing by
+     * {@code stride}.
+     *
+     * @param array  the array to iterate; not copied
+     * @param offset the index of the first element
+     * @param size   the number of elements
+     * @param stride the distance between consecutive elements
+     */
+    public LongArrayIterable(long[] array, int offset, int size, int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be positive: " + stride);
+        }
+        if (offset < 0 || size < 0 || (size > 0 && offset + (long) (size - 1) * stride >= array.length)) {
+            throw new ArrayIndexOutOfBoundsException(
+                    "offset=" + offset + ", size=" + size + ", stride=" + stride + ", length=" + array.length);
+        }
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+        this.stride = stride;
+    }
+
+    /**
+     * The number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the element at {@code index}.
+     *
+     * @param index the index of the element in this iterable
+     * @return the element
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+        }
+        return array[offset + index * stride];
+    }
+
+    /**
+     * A view of the elements from index {@code from}, inclusive, to {@code to}, exclusive.
+     *
+     * @param from the first index of the slice
+     * @param to   the index after the last of the slice
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public LongArrayIterable slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to + ", size=" + size);
+        }
+        if (from == to) {
+            return new LongArrayIterable(array, 0, 0, 1);
+        }
+        return new LongArrayIterable(array, offset + from * stride, to - from, stride);
+    }
+
+    /**
+     * A view of every {@code step}th element, starting with the first.
+     *
+     * @param step the distance between elements of this iterable to take
+     * @return a view sharing this iterable's array
+     */
+    @Nonnull
+    public LongArrayIterable stride(int step) {
+        if (step < 1) {
+            throw new IllegalArgumentException("step must be positive: " + step);
+        }
+        int newSize = (int) (((long) size + step - 1) / step);
+        return new LongArrayIterable(array, offset, newSize, newSize <= 1 ? 1 : Math.multiplyExact(stride, step));
+    }
+
+    /**
+     * Keep at most the first {@code maxSize} elements, as a view sharing this iterable's array.
+     *
+     * @param maxSize the maximum number of elements
+     * @return a view sharing this iterable's array
+     */
+    @Override
+    @Nonnull
+    public LongArrayIterable limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+        return slice(0, (int) Math.min(maxSize, size));
+    }
+
+    /**
+     * Skip the first {@code n} elements, as a view sharing this iterable's array.
+     *
+     * @param n the number of elements to skip
+     * @return a view sharing this iterable's array
+     */
+    @Override
+    @Nonnull
+    public LongArrayIterable skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return slice((int) Math.min(n, size), size);
+    }
+
+    /**
+     * Copy the elements into a new array.
+     *
+     * @return an array of the elements
+     */
+    @Override
+    @Nonnull
+    public long[] toArray() {
+        if (stride == 1) {
+            return Arrays.copyOfRange(array, offset, offset + size);
+        }
+        long[] ret = new long[size];
+        for (int i = 0, j = offset; i < size; ++i, j += stride) {
+            ret[i] = array[j];
+        }
+        return ret;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong primitiveIterator() {
+        return Spliterators.iterator(primitiveSpliterator());
+    }
+
+    @Override
+    public Spliterator.OfLong primitiveSpliterator() {
+        return new StridedSpliterator(array, offset, stride, 0, size);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Create a builder that grows its array as longs are added.
+     *
+     * @return a new builder
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Accumulates longs in a growable array.
+     * <p>
+     * {@link #build()} shares the array with the built iterable instead of copying it; since the builder only ever
+     * appends, longs added afterward do not change what was built.
+     */
+    public static class Builder implements LongConsumer {
+        private long[] buffer = new long[16];
+        private int size;
+
+        /**
+         * Add a long.
+         *
+         * @param value the long to add
+         * @return this builder
+         */
+        @Nonnull
+        public Builder add(long value) {
+            ensureCapacity(size + 1);
+            buffer[size++] = value;
+            return this;
+        }
+
+        /**
+         * Add longs.
+         *
+         * @param values the longs to add
+         * @return this builder
+         */
+        @Nonnull
+        public Builder addAll(long... values) {
+            ensureCapacity(size + values.length);
+            System.arraycopy(values, 0, buffer, size, values.length);
+            size += values.length;
+            return this;
+        }
+
+        @Override
+        public void accept(long value) {
+            add(value);
+        }
+
+        /**
+         * Build an iterable of the longs added so far.
+         *
+         * @return an iterable sharing this builder's array
+         */
+        @Nonnull
+        public LongArrayIterable build() {
+            return new LongArrayIterable(buffer, 0, size, 1);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity < 0) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            if (capacity > buffer.length) {
+                int newLength = (int) Math.min(Integer.MAX_VALUE - 8,
+                        Math.max(capacity, buffer.length + ((long) buffer.length >> 1)));
+                buffer = Arrays.copyOf(buffer, newLength);
+            }
+        }
+    }
+
+    /**
+     * Spliterator over the element indexes {@code [index, fence)} of a strided view.
+     */
+    private static final class StridedSpliterator implements Spliterator.OfLong {
+        private final long[] array;
+        private final int offset;
+        private final int stride;
+        private int index;
+        private final int fence;
+
+        StridedSpliterator(long[] array, int offset, int stride, int index, int fence) {
+            this.array = array;
+            this.offset = offset;
+            this.stride = stride;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @Nullable
+        public OfLong trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new StridedSpliterator(array, offset, stride, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(array[offset + index++ * stride]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long[] a = array;
+            int s = stride;
+            int hi = fence;
+            int i = index;
+            index = hi;
+            for (int j = offset + i * s; i < hi; ++i, j += s) {
+                action.accept(a[j]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link J8PrimitiveIterable.OfLong} over the remaining longs of one or more {@link LongBuffer} segments.
+ * <p>
+ * The buffers may be views of direct or memory-mapped {@link java.nio.ByteBuffer}s, so that the longs never live on the
+ * Java heap; several segments allow for more than {@link Integer#MAX_VALUE} longs, such as a large mapped file.
+ * Spliterators are {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, and split at
+ * the exact midpoint, across segment boundaries if need be.
+ *
+ * @author scr
+ */
+public class LongBufferIterable extends FluentLongIterable implements KnownCharacteristics {
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED |
+            Spliterator.NONNULL;
+
+    private final LongBuffer[] segments;
+    private final long[] starts;
+
+    /**
+     * Create an iterable over the remaining longs of each of the {@code segments}, in order.
+     * <p>
+     * The segments are sliced, so later changes to their positions and limits do not affect this iterable, but changes
+     * to their content do.
+     *
+     * @param segments the buffers to iterate
+     */
+    public LongBufferIterable(LongBuffer... segments) {
+        this.segments = new LongBuffer[segments.length];
+        this.starts = new long[segments.length + 1];
+        for (int i = 0; i < segments.length; ++i) {
+            this.segments[i] = segments[i].slice();
+            this.starts[i + 1] = this.starts[i] + this.segments[i].limit();
+        }
+    }
+
+    /**
+     * The number of longs.
+     *
+     * @return the number of longs across all segments
+     */
+    public long size() {
+        return starts[segments.length];
+    }
+
+    /**
+     * Get the long at {@code index}.
+     *
+     * @param index the index across all segments
+     * @return the long
+     */
+    public long get(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size());
+        }
+        int segment = segmentOf(starts, index);
+        return segments[segment].get((int) (index - starts[segment]));
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong primitiveIterator() {
+        return Spliterators.iterator(primitiveSpliterator());
+    }
+
+    @Override
+    public Spliterator.OfLong primitiveSpliterator() {
+        return new SegmentedSpliterator(segments, starts, 0, size());
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Find the segment containing {@code index}.
+     *
+     * @param starts the first index of each segment, followed by the total size
+     * @param index  an index less than the total size
+     * @return the last segment whose start is at most {@code index}
+     */
+    static int segmentOf(long[] starts, long index) {
+        int segment = Arrays.binarySearch(starts, 0, starts.length - 1, index);
+        if (segment < 0) {
+            return -segment - 2;
+        }
+        // Skip past empty segments that start at the same index.
+        while (segment + 1 < starts.length - 1 && starts[segment + 1] == index) {
+            ++segment;
+        }
+        return segment;
+    }
+
+    /**
+     * Spliterator over the indexes {@code [index, fence)} across all segments.
+     */
+    private static final class SegmentedSpliterator implements Spliterator.OfLong {
+        private final LongBuffer[] segments;
+        private final long[] starts;
+        private long index;
+        private final long fence;
+        // The segment that tryAdvance last read from, and the index where it ends, so as to search only on crossing
+        // into another segment.
+        private int segment;
+        private long segmentEnd;
+
+        SegmentedSpliterator(LongBuffer[] segments, long[] starts, long index, long fence) {
+            this.segments = segments;
+            this.starts = starts;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @Nullable
+        public OfLong trySplit() {
+            long lo = index;
+            long mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new SegmentedSpliterator(segments, starts, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            if (index >= segmentEnd) {
+                segment = segmentOf(starts, index);
+                segmentEnd = starts[segment + 1];
+            }
+            action.accept(segments[segment].get((int) (index - starts[segment])));
+            ++index;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long i = index;
+            long hi = fence;
+            index = hi;
+            if (i >= hi) {
+                return;
+            }
+            for (int segment = segmentOf(starts, i); i < hi; ++segment) {
+                LongBuffer buffer = segments[segment];
+                long start = starts[segment];
+                int end = (int) (Math.min(hi, starts[segment + 1]) - start);
+                for (int j = (int) (i - start); j < end; ++j) {
+                    action.accept(buffer.get(j));
+                }
+                i = start + end;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the records of one or more buffers, such as windows of a memory-mapped file, each of which
+ * starts and ends at a record boundary.
+ * <p>
+ * Each record is a {@link ByteBuffer} view of its content, so the bytes are never copied onto the Java heap.
+ * {@link #trySplit()} splits between windows while there are several, then at the record boundary nearest the middle of
+ * the remaining window, so that parallel streams never see a partial record. Sizes are estimated in bytes.
+ *
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Streams#mappedRecords(java.nio.file.Path, RecordFormat)
+ */
+public class MappedRecordSpliterator implements Spliterator<ByteBuffer> {
+    /**
+     * The largest window mapped at once by default.
+     */
+    public static final int DEFAULT_WINDOW_BYTES = 1 << 30;
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+    // Splitting smaller ranges costs more than it gains.
+    private static final int MIN_SPLIT_BYTES = 1 << 12;
+
+    private final ByteBuffer[] windows;
+    private final RecordFormat format;
+    private int index;
+    private final int fence;
+    private int position;
+
+    /**
+     * Create a spliterator over the records from index 0 to the limit of each of {@code windows}.
+     *
+     * @param windows the buffers, each holding whole records
+     * @param format  the framing of the records
+     */
+    public MappedRecordSpliterator(ByteBuffer[] windows, RecordFormat format) {
+        this(windows, format, 0, windows.length, 0);
+    }
+
+    private MappedRecordSpliterator(ByteBuffer[] windows, RecordFormat format, int index, int fence, int position) {
+        this.windows = windows;
+        this.format = format;
+        this.index = index;
+        this.fence = fence;
+        this.position = position;
+    }
+
+    /**
+     * Map {@code channel} read-only in windows of at most {@code windowBytes}, each ending at the last record boundary
+     * it holds, and create a spliterator over their records.
+     * <p>
+     * The mappings remain valid after the channel is closed.
+     *
+     * @param channel     the file to map
+     * @param format      the framing of the records
+     * @param windowBytes the largest window to map, which must hold at least one whole record
+     * @return a spliterator over the records of the file
+     * @throws IOException if the file cannot be mapped, or holds a record larger than {@code windowBytes}
+     */
+    @Nonnull
+    public static MappedRecordSpliterator map(FileChannel channel, RecordFormat format, int windowBytes)
+            throws IOException {
+        if (windowBytes < 1) {
+            throw new IllegalArgumentException("windowBytes must be positive: " + windowBytes);
+        }
+        List<ByteBuffer> windows = new ArrayList<>();
+        long size = channel.size();
+        for (long position = 0; position < size; ) {
+            int length = (int) Math.min(windowBytes, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int end = position + length == size ? length : format.lastBoundary(window, length);
+            if (end <= 0) {
+                throw new IOException("Record at " + position + " is larger than the window of " + windowBytes +
+                        " bytes");
+            }
+            window.limit(end);
+            windows.add(window);
+            position += end;
+        }
+        return new MappedRecordSpliterator(windows.toArray(new ByteBuffer[windows.size()]), format);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+        for (; index < fence; ++index, position = 0) {
+            ByteBuffer window = windows[index];
+            int limit = window.limit();
+            if (position < limit) {
+                int start = position;
+                position = format.next(window, start, limit);
+                action.accept(format.record(window, start, position));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ByteBuffer> action) {
+        for (; index < fence; ++index, position = 0) {
+            ByteBuffer window = windows[index];
+            int limit = window.limit();
+            while (position < limit) {
+                int start = position;
+                position = format.next(window, start, limit);
+                action.accept(format.record(window, start, position));
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<ByteBuffer> trySplit() {
+        if (fence - index > 1) {
+            int mid = (index + fence) >>> 1;
+            MappedRecordSpliterator prefix = new MappedRecordSpliterator(windows, format, index, mid, position);
+            index = mid;
+            position = 0;
+            return prefix;
+        }
+        if (index >= fence) {
+            return null;
+        }
+        ByteBuffer window = windows[index];
+        int lo = position;
+        int hi = window.limit();
+        if (hi - lo < MIN_SPLIT_BYTES) {
+            return null;
+        }
+        int mid = format.align(window, lo, (lo + hi) >>> 1, hi);
+        if (mid <= lo || mid >= hi) {
+            return null;
+        }
+        position = mid;
+        return new MappedRecordSpliterator(
+                new ByteBuffer[]{RecordFormat.slice(window, lo, mid)}, format, 0, 1, 0);
+    }
+
+    @Override
+    public long estimateSize() {
+        long bytes = 0;
+        for (int i = index; i < fence; ++i) {
+            bytes += windows[i].limit();
+        }
+        return index < fence ? bytes - position : 0;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
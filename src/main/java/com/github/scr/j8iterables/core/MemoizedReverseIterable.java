@@ -0,0 +1,113 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.LongSupplier;
+
+/**
+ * Iterable that reverses a source iterable by copying it once into an array and reusing the copy across iterations.
+ * <p>
+ * The copy is tagged with the value of a version hook (such as a modification count) read before copying, and is
+ * copied again once the version changes. It is held by a {@link SoftReference}, so the garbage collector may release it
+ * under memory pressure, and may be released explicitly with {@link #invalidate()}.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Iterables#reverseMemoized(Iterable, LongSupplier)
+ */
+public class MemoizedReverseIterable<T> extends FluentIterable<T> {
+    private final Iterable<? extends T> source;
+    private final LongSupplier version;
+    @Nullable
+    private volatile SoftReference<Snapshot> cache;
+
+    /**
+     * Create a reversed view of {@code source} that is only copied again after {@link #invalidate()} or when the
+     * garbage collector has released the copy.
+     *
+     * @param source the iterable to reverse
+     */
+    public MemoizedReverseIterable(Iterable<? extends T> source) {
+        this(source, () -> 0L);
+    }
+
+    /**
+     * Create a reversed view of {@code source} that is copied again whenever {@code version} changes.
+     *
+     * @param source  the iterable to reverse
+     * @param version supplies a value that changes whenever {@code source} does
+     */
+    public MemoizedReverseIterable(Iterable<? extends T> source, LongSupplier version) {
+        this.source = source;
+        this.version = version;
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<T> iterator() {
+        return reversed().iterator();
+    }
+
+    @Override
+    @Nonnull
+    public Spliterator<T> spliterator() {
+        return reversed().spliterator();
+    }
+
+    /**
+     * Release the copy, if any, so that the next iteration copies the source again.
+     */
+    public void invalidate() {
+        cache = null;
+    }
+
+    /**
+     * Whether a copy matching the current version is held.
+     *
+     * @return {@code true} if iterating now would not copy the source
+     */
+    public boolean isMaterialized() {
+        Snapshot snapshot = get(cache);
+        return snapshot != null && snapshot.version == version.getAsLong();
+    }
+
+    private List<T> reversed() {
+        long currentVersion = version.getAsLong();
+        Snapshot snapshot = get(cache);
+        if (snapshot == null || snapshot.version != currentVersion) {
+            // Read the version before copying, so that a concurrent change leaves the copy looking stale.
+            snapshot = new Snapshot(Iterables.toArray(source, Object.class), currentVersion);
+            cache = new SoftReference<>(snapshot);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) Arrays.asList(snapshot.elements);
+        return Lists.reverse(list);
+    }
+
+    @Nullable
+    private static <S> S get(@Nullable SoftReference<S> reference) {
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * A copy of the source and the version it was copied at.
+     */
+    private static final class Snapshot {
+        private final Object[] elements;
+        private final long version;
+
+        Snapshot(Object[] elements, long version) {
+            this.elements = elements;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.github.scr.j8iterables.core;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * This iterator records {@link IterationMetrics} about a backing iterator without transforming its elements.
+ * <p>
+ * The iteration is started when the iterator is created and completed when {@link #hasNext()} first returns
+ * {@code false}. Elements are traversed one at a time, so that the time the backing iterator takes to produce an
+ * element can be told apart from the time spent by the caller. That time spans its {@code hasNext} and {@code next},
+ * since many iterators, such as those over streams and filtered iterables, do their work in {@code hasNext}.
+ *
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Iterables#metered(Iterable, String)
+ */
+public class MeteredIterator<E> implements Iterator<E> {
+    private final Iterator<E> backingIterator;
+    private final Meter meter;
+
+    public MeteredIterator(Iterator<E> iterator, IterationMetrics metrics) {
+        this.backingIterator = iterator;
+        this.meter = new Meter(metrics);
+    }
+
+    @Override
+    public boolean hasNext() {
+        meter.beforeHasNext();
+        return meter.hasNext(backingIterator.hasNext());
+    }
+
+    @Override
+    public E next() {
+        if (meter.sample()) {
+            long start = meter.start();
+            E ret = backingIterator.next();
+            meter.sampled(start);
+            return ret;
+        }
+        return backingIterator.next();
+    }
+
+    @Override
+    public void remove() {
+        backingIterator.remove();
+    }
+
+    /**
+     * Metered {@link PrimitiveIterator.OfInt}.
+     */
+    public static class OfInt implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt backingIterator;
+        private final Meter meter;
+
+        public OfInt(PrimitiveIterator.OfInt iterator, IterationMetrics metrics) {
+            this.backingIterator = iterator;
+            this.meter = new Meter(metrics);
+        }
+
+        @Override
+        public boolean hasNext() {
+            meter.beforeHasNext();
+            return meter.hasNext(backingIterator.hasNext());
+        }
+
+        @Override
+        public int nextInt() {
+            if (meter.sample()) {
+                long start = meter.start();
+                int ret = backingIterator.nextInt();
+                meter.sampled(start);
+                return ret;
+            }
+            return backingIterator.nextInt();
+        }
+    }
+
+    /**
+     * Metered {@link PrimitiveIterator.OfLong}.
+     */
+    public static class OfLong implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong backingIterator;
+        private final Meter meter;
+
+        public OfLong(PrimitiveIterator.OfLong iterator, IterationMetrics metrics) {
+            this.backingIterator = iterator;
+            this.meter = new Meter(metrics);
+        }
+
+        @Override
+        public boolean hasNext() {
+            meter.beforeHasNext();
+            return meter.hasNext(backingIterator.hasNext());
+        }
+
+        @Override
+        public long nextLong() {
+            if (meter.sample()) {
+                long start = meter.start();
+                long ret = backingIterator.nextLong();
+                meter.sampled(start);
+                return ret;
+            }
+            return backingIterator.nextLong();
+        }
+    }
+
+    /**
+     * Metered {@link PrimitiveIterator.OfDouble}.
+     */
+    public static class OfDouble implements PrimitiveIterator.OfDouble {
+        private final PrimitiveIterator.OfDouble backingIterator;
+        private final Meter meter;
+
+        public OfDouble(PrimitiveIterator.OfDouble iterator, IterationMetrics metrics) {
+            this.backingIterator = iterator;
+            this.meter = new Meter(metrics);
+        }
+
+        @Override
+        public boolean hasNext() {
+            meter.beforeHasNext();
+            return meter.hasNext(backingIterator.hasNext());
+        }
+
+        @Override
+        public double nextDouble() {
+            if (meter.sample()) {
+                long start = meter.start();
+                double ret = backingIterator.nextDouble();
+                meter.sampled(start);
+                return ret;
+            }
+            return backingIterator.nextDouble();
+        }
+    }
+
+    /**
+     * The state of one metered iteration.
+     */
+    private static final class Meter {
+        private final IterationMetrics metrics;
+        private final long startNanos;
+        private long unpublished;
+        private int countdown = 1;
+        private boolean first = true;
+        private boolean completed;
+        private boolean timing;
+        private long timingStart;
+
+        Meter(IterationMetrics metrics) {
+            this.metrics = metrics;
+            metrics.recordStarted();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Start timing before the first call to {@code hasNext} for an element that will be sampled.
+         */
+        void beforeHasNext() {
+            if (countdown == 1 && !timing) {
+                timing = true;
+                timingStart = System.nanoTime();
+            }
+        }
+
+        /**
+         * Count an element about to be returned.
+         *
+         * @return whether to time the element from {@link #start()} and then call {@link #sampled(long)}
+         */
+        boolean sample() {
+            ++unpublished;
+            return --countdown == 0;
+        }
+
+        /**
+         * The start of the time to produce a sampled element: when {@link #beforeHasNext()} started timing, or now if
+         * {@code next} was called without {@code hasNext}.
+         *
+         * @return the start in nanoseconds
+         */
+        long start() {
+            if (timing) {
+                timing = false;
+                return timingStart;
+            }
+            return System.nanoTime();
+        }
+
+        void sampled(long start) {
+            long end = System.nanoTime();
+            metrics.recordNext(end - start);
+            if (first) {
+                first = false;
+                metrics.recordFirstElement(end - startNanos);
+            }
+            metrics.recordElements(unpublished);
+            unpublished = 0;
+            countdown = metrics.getSampleEvery();
+        }
+
+        boolean hasNext(boolean hasNext) {
+            if (!hasNext && !completed) {
+                completed = true;
+                metrics.recordElements(unpublished);
+                unpublished = 0;
+                metrics.recordCompleted(System.nanoTime() - startNanos);
+            }
+            return hasNext;
+        }
+    }
+}
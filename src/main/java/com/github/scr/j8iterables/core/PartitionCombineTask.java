@@ -0,0 +1,110 @@
+package com.github.scr.j8iterables.core;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * A {@link RecursiveTask} that maps each partition to a partial result and combines the partial results pairwise.
+ * <p>
+ * When ordered, partial results are combined in a balanced tree that preserves the order of the partitions, so the
+ * combiner only needs to be associative. When unordered, each partial result is combined with whichever other partial
+ * result is already waiting, so the combiner must also be commutative.
+ *
+ * @param <P> The type of partitions
+ * @param <R> The type of (partial) results
+ * @author scr
+ */
+public class PartitionCombineTask<P, R> extends RecursiveTask<R> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends P> partitions;
+    private final int from;
+    private final int to;
+    private final Function<? super P, R> leafFunction;
+    private final BinaryOperator<R> combiner;
+    private final Queue<R> pending;
+
+    /**
+     * Create an ordered task over all of the {@code partitions}.
+     *
+     * @param partitions   the partitions; must not be empty
+     * @param leafFunction computes the partial result of one partition
+     * @param combiner     combines two adjacent partial results, left first
+     */
+    public PartitionCombineTask(List<? extends P> partitions,
+                                Function<? super P, R> leafFunction,
+                                BinaryOperator<R> combiner) {
+        this(partitions, leafFunction, combiner, true);
+    }
+
+    /**
+     * Create a task over all of the {@code partitions}.
+     *
+     * @param partitions   the partitions; must not be empty
+     * @param leafFunction computes the partial result of one partition
+     * @param combiner     combines two partial results
+     * @param ordered      whether partial results must be combined in partition order
+     */
+    public PartitionCombineTask(List<? extends P> partitions,
+                                Function<? super P, R> leafFunction,
+                                BinaryOperator<R> combiner,
+                                boolean ordered) {
+        this(partitions, 0, partitions.size(), leafFunction, combiner,
+                ordered ? null : new ConcurrentLinkedQueue<>());
+    }
+
+    private PartitionCombineTask(List<? extends P> partitions, int from, int to,
+                                 Function<? super P, R> leafFunction,
+                                 BinaryOperator<R> combiner,
+                                 Queue<R> pending) {
+        if (from >= to) {
+            throw new IllegalArgumentException("No partitions to combine");
+        }
+        this.partitions = partitions;
+        this.from = from;
+        this.to = to;
+        this.leafFunction = leafFunction;
+        this.combiner = combiner;
+        this.pending = pending;
+    }
+
+    @Override
+    protected R compute() {
+        boolean root = from == 0 && to == partitions.size();
+        if (to - from == 1) {
+            R result = leafFunction.apply(partitions.get(from));
+            if (pending == null || root) {
+                return result;
+            }
+            // Fold in whatever has already finished, then leave the result for the next finisher.
+            for (R other = pending.poll(); other != null; other = pending.poll()) {
+                result = combiner.apply(other, result);
+            }
+            pending.add(result);
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        PartitionCombineTask<P, R> left =
+                new PartitionCombineTask<>(partitions, from, mid, leafFunction, combiner, pending);
+        PartitionCombineTask<P, R> right =
+                new PartitionCombineTask<>(partitions, mid, to, leafFunction, combiner, pending);
+        left.fork();
+        R rightResult = right.compute();
+        R leftResult = left.join();
+        if (pending == null) {
+            return combiner.apply(leftResult, rightResult);
+        }
+        if (!root) {
+            return null;
+        }
+        R result = pending.remove();
+        for (R other = pending.poll(); other != null; other = pending.poll()) {
+            result = combiner.apply(result, other);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Spliterator} over a list of partitions, such as byte ranges of a file or key ranges of a table, that opens a
+ * separate resource for each partition as it is reached and closes it when the partition is exhausted.
+ * <p>
+ * {@link #trySplit()} hands half of the remaining partitions to the new spliterator, so parallel streams read the
+ * partitions with resources of their own; a single partition is never split. The partitions are planned when first
+ * needed. Resources left open by a traversal that ended early (by a short-circuiting operation or an exception) are
+ * closed by {@link #close()} on the spliterator the others were split from, such as from
+ * {@link java.util.stream.Stream#onClose(Runnable)}.
+ *
+ * @param <T> the type of elements
+ * @param <P> the type of partitions
+ * @param <R> the type of resources
+ * @author scr
+ * @apiNote Upon close, any {@link IOException} is converted to {@link UncheckedIOException}.
+ * @see com.github.scr.j8iterables.J8Streams#unfoldPartitionedResource(Supplier, Function, Function, Consumer, int, boolean)
+ */
+public class PartitionedResourceSpliterator<T, P, R> implements Spliterator<T>, AutoCloseable {
+    private final Shared<T, P, R> shared;
+    @Nullable
+    private List<P> partitions;
+    private int index;
+    private int fence;
+    @Nullable
+    private volatile R resource;
+    @Nullable
+    private Spliterator<T> current;
+
+    /**
+     * Create a spliterator over the partitions from {@code planner}.
+     *
+     * @param planner         plans the partitions, when they are first needed
+     * @param opener          opens the resource for a partition
+     * @param mapper          maps a partition's resource to a spliterator over its elements
+     * @param closer          closes a resource
+     * @param characteristics the characteristics of the elements, which are in partition order if
+     *                        {@link Spliterator#ORDERED}
+     */
+    public PartitionedResourceSpliterator(Supplier<? extends List<P>> planner, Function<? super P, ? extends R> opener,
+                                          Function<? super R, ? extends Spliterator<T>> mapper,
+                                          Consumer<? super R> closer, int characteristics) {
+        this.shared = new Shared<>(planner, opener, mapper, closer,
+                characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    private PartitionedResourceSpliterator(Shared<T, P, R> shared, List<P> partitions, int index, int fence) {
+        this.shared = shared;
+        this.partitions = partitions;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * As a convenience for {@link Closeable} resources, create a spliterator that calls {@link Closeable#close()} on
+     * each resource when its partition is done.
+     *
+     * @param planner         plans the partitions, when they are first needed
+     * @param opener          opens the resource for a partition
+     * @param mapper          maps a partition's resource to a spliterator over its elements
+     * @param characteristics the characteristics of the elements
+     * @param <T>             the type of elements
+     * @param <P>             the type of partitions
+     * @param <R>             the type of resources
+     * @return a new spliterator
+     * @apiNote If {@link Closeable} throws an {@link IOException}, an {@link UncheckedIOException} will be thrown.
+     */
+    public static <T, P, R extends Closeable> PartitionedResourceSpliterator<T, P, R> ofCloseableResources(
+            Supplier<? extends List<P>> planner, Function<? super P, ? extends R> opener,
+            Function<? super R, ? extends Spliterator<T>> mapper, int characteristics) {
+        return new PartitionedResourceSpliterator<>(planner, opener, mapper, r -> {
+            try {
+                r.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        plan();
+        while (true) {
+            if (current == null) {
+                if (index >= fence) {
+                    return false;
+                }
+                open(partitions.get(index++));
+            }
+            if (current.tryAdvance(action)) {
+                return true;
+            }
+            closeResource();
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        plan();
+        while (true) {
+            if (current == null) {
+                if (index >= fence) {
+                    return;
+                }
+                open(partitions.get(index++));
+            }
+            try {
+                current.forEachRemaining(action);
+            } finally {
+                closeResource();
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        plan();
+        int unopened = fence - index;
+        if (unopened < (current == null ? 2 : 1)) {
+            return null;
+        }
+        int mid = index + unopened / 2;
+        PartitionedResourceSpliterator<T, P, R> prefix =
+                new PartitionedResourceSpliterator<>(shared, partitions, index, mid);
+        if (current != null) {
+            // The open partition precedes the unopened ones in encounter order, so it goes to the prefix.
+            prefix.resource = resource;
+            prefix.current = current;
+            shared.open.add(prefix);
+            shared.open.remove(this);
+            resource = null;
+            current = null;
+        }
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        plan();
+        if (index >= fence) {
+            return current == null ? 0 : current.estimateSize();
+        }
+        // The sizes of unopened partitions are unknown.
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return shared.characteristics;
+    }
+
+    /**
+     * Close the resources still open in this spliterator and any split from it.
+     */
+    @Override
+    public void close() {
+        RuntimeException failure = null;
+        for (PartitionedResourceSpliterator<T, P, R> spliterator : shared.open) {
+            try {
+                spliterator.closeResource();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void plan() {
+        if (partitions == null) {
+            partitions = shared.planner.get();
+            index = 0;
+            fence = partitions.size();
+        }
+    }
+
+    private void open(P partition) {
+        R r = shared.opener.apply(partition);
+        resource = r;
+        shared.open.add(this);
+        try {
+            current = shared.mapper.apply(r);
+        } catch (RuntimeException | Error e) {
+            closeResource();
+            throw e;
+        }
+    }
+
+    private void closeResource() {
+        current = null;
+        R r = resource;
+        resource = null;
+        // Removal decides which of a traversal and close() gets to close the resource.
+        if (r != null && shared.open.remove(this)) {
+            shared.closer.accept(r);
+        }
+    }
+
+    /**
+     * The functions and the registry of open resources shared by a spliterator and those split from it.
+     */
+    private static final class Shared<T, P, R> {
+        final Supplier<? extends List<P>> planner;
+        final Function<? super P, ? extends R> opener;
+        final Function<? super R, ? extends Spliterator<T>> mapper;
+        final Consumer<? super R> closer;
+        final int characteristics;
+        final Set<PartitionedResourceSpliterator<T, P, R>> open = ConcurrentHashMap.newKeySet();
+
+        Shared(Supplier<? extends List<P>> planner, Function<? super P, ? extends R> opener,
+               Function<? super R, ? extends Spliterator<T>> mapper, Consumer<? super R> closer,
+               int characteristics) {
+            this.planner = planner;
+            this.opener = opener;
+            this.mapper = mapper;
+            this.closer = closer;
+            this.characteristics = characteristics;
+        }
+    }
+}
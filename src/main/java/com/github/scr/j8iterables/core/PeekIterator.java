@@ -1,5 +1,6 @@
 package com.github.scr.j8iterables.core;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.function.Consumer;
 
@@ -12,15 +13,33 @@ import java.util.function.Consumer;
 public class PeekIterator<E> implements Iterator<E> {
     private final Iterator<E> backingIterator;
     private final Consumer<? super E> consumer;
+    @Nullable
+    private Runnable onExhausted;
 
     public PeekIterator(Iterator<E> iterator, Consumer<? super E> consumer) {
+        this(iterator, consumer, null);
+    }
+
+    /**
+     * Create an iterator that also runs {@code onExhausted} once, the first time it is found to have no more elements.
+     *
+     * @param iterator    the iterator to peek at
+     * @param consumer    the consumer to peek at each element
+     * @param onExhausted run once the iterator is exhausted, or {@code null}
+     */
+    public PeekIterator(Iterator<E> iterator, Consumer<? super E> consumer, @Nullable Runnable onExhausted) {
         this.backingIterator = iterator;
         this.consumer = consumer;
+        this.onExhausted = onExhausted;
     }
 
     @Override
     public boolean hasNext() {
-        return backingIterator.hasNext();
+        if (backingIterator.hasNext()) {
+            return true;
+        }
+        exhausted();
+        return false;
     }
 
     @Override
@@ -39,5 +58,14 @@ public class PeekIterator<E> implements Iterator<E> {
     @SuppressWarnings("unchecked")
     public void forEachRemaining(Consumer<? super E> action) {
         backingIterator.forEachRemaining(((Consumer<E>) consumer).andThen(action));
+        exhausted();
+    }
+
+    private void exhausted() {
+        Runnable runnable = onExhausted;
+        if (runnable != null) {
+            onExhausted = null;
+            runnable.run();
+        }
     }
 }
@@ -0,0 +1,146 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses which elements a sampled peek passes to its consumer.
+ * <p>
+ * Rather than being asked about every element, a sampler says how many elements to skip until the next candidate, so
+ * that unsampled elements cost a counter decrement and a branch; candidates are then confirmed by {@link #test()}.
+ * Samplers from the factories here may be shared by many iterators and threads.
+ *
+ * @author scr
+ * @see SamplingPeekIterator
+ */
+public interface PeekSampler {
+    /**
+     * The number of elements up to and including the first candidate.
+     *
+     * @return a positive count
+     */
+    default long firstGap() {
+        return nextGap();
+    }
+
+    /**
+     * The number of elements after a candidate up to and including the next candidate.
+     *
+     * @return a positive count
+     */
+    long nextGap();
+
+    /**
+     * Whether to pass the current candidate to the consumer.
+     *
+     * @return {@code true} to sample the candidate
+     */
+    default boolean test() {
+        return true;
+    }
+
+    /**
+     * Sample the first element and every {@code n}th one after it.
+     *
+     * @param n the distance between sampled elements
+     * @return a sampler of every {@code n}th element
+     */
+    @Nonnull
+    static PeekSampler everyNth(long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        return new PeekSampler() {
+            @Override
+            public long firstGap() {
+                return 1;
+            }
+
+            @Override
+            public long nextGap() {
+                return n;
+            }
+        };
+    }
+
+    /**
+     * Sample each element independently with {@code probability}.
+     * <p>
+     * The gaps between samples are drawn from the geometric distribution using {@link ThreadLocalRandom}, so the random
+     * number generator is consulted once per sample rather than once per element.
+     *
+     * @param probability the probability of sampling each element, in {@code (0, 1]}
+     * @return a probabilistic sampler
+     */
+    @Nonnull
+    static PeekSampler withProbability(double probability) {
+        if (!(probability > 0 && probability <= 1)) {
+            throw new IllegalArgumentException("probability must be in (0, 1]: " + probability);
+        }
+        if (probability == 1) {
+            return everyNth(1);
+        }
+        double logComplement = Math.log1p(-probability);
+        return () -> {
+            // 1 - nextDouble() is in (0, 1], so the log is finite.
+            double gap = Math.floor(Math.log(1 - ThreadLocalRandom.current().nextDouble()) / logComplement);
+            return gap >= Long.MAX_VALUE - 1 ? Long.MAX_VALUE : (long) gap + 1;
+        };
+    }
+
+    /**
+     * Sample at most {@code permitsPerSecond} elements per second, across all iterators sharing the sampler, reading the
+     * clock for every element.
+     *
+     * @param permitsPerSecond the most elements sampled per second
+     * @return a rate-limited sampler
+     */
+    @Nonnull
+    static PeekSampler rateLimited(double permitsPerSecond) {
+        return rateLimited(permitsPerSecond, 1);
+    }
+
+    /**
+     * Sample at most {@code permitsPerSecond} elements per second, across all iterators sharing the sampler, reading the
+     * clock only for every {@code checkEvery}th element.
+     * <p>
+     * Only those elements can be sampled, so a source producing fewer than {@code checkEvery * permitsPerSecond}
+     * elements per second is sampled less often than the limit allows; use {@link #rateLimited(double)} to consider
+     * every element.
+     *
+     * @param permitsPerSecond the most elements sampled per second
+     * @param checkEvery       the number of elements per clock read
+     * @return a rate-limited sampler
+     */
+    @Nonnull
+    static PeekSampler rateLimited(double permitsPerSecond, long checkEvery) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (checkEvery < 1) {
+            throw new IllegalArgumentException("checkEvery must be positive: " + checkEvery);
+        }
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+        return new PeekSampler() {
+            @Override
+            public long firstGap() {
+                return 1;
+            }
+
+            @Override
+            public long nextGap() {
+                return checkEvery;
+            }
+
+            @Override
+            public boolean test() {
+                long now = System.nanoTime();
+                long next = nextPermitNanos.get();
+                return now - next >= 0 && nextPermitNanos.compareAndSet(next, now + intervalNanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,344 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.base.Throwables;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Iterator} that reads ahead of its caller, pulling batches from a source iterator on an {@link Executor} into
+ * a bounded queue, so that the latency of a slow (such as I/O-bound) source overlaps with processing of the elements.
+ * <p>
+ * Fetching starts at the first {@link #hasNext()} and pauses whenever the queue is full. An exception from the source
+ * is thrown to the caller after the elements that preceded it. {@link #close()} cancels the fetch, interrupting the
+ * source if it is blocked; an iterator that is abandoned without being closed is cancelled once it is garbage
+ * collected. Counts of how full the queue was are kept to tell whether the source or the caller is the bottleneck.
+ * <p>
+ * The executor must run the fetch on another thread, and the source must not be used by anything else meanwhile.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ * @see com.github.scr.j8iterables.J8Iterators#prefetch(Iterator, Executor, int, int)
+ */
+public class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+    /**
+     * The batch size used by {@link #PrefetchingIterator(Iterator, Executor, int)}, if the capacity allows.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Object END = new Object();
+    private static final long CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Fetcher fetcher;
+    private final Executor executor;
+    private boolean started;
+    private boolean done;
+    private Object[] batch;
+    private int index;
+
+    /**
+     * Create an iterator that prefetches up to {@code capacity} elements of {@code source} in batches of
+     * {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @param source   the iterator to read ahead of
+     * @param executor the executor to fetch on
+     * @param capacity the most elements fetched ahead of the caller
+     */
+    public PrefetchingIterator(Iterator<? extends T> source, Executor executor, int capacity) {
+        this(source, executor, capacity, Math.max(1, Math.min(capacity, DEFAULT_BATCH_SIZE)));
+    }
+
+    /**
+     * Create an iterator that prefetches up to {@code capacity} elements of {@code source} in batches of
+     * {@code batchSize}.
+     *
+     * @param source    the iterator to read ahead of
+     * @param executor  the executor to fetch on
+     * @param capacity  the most elements fetched ahead of the caller, rounded down to a multiple of {@code batchSize}
+     * @param batchSize the number of elements handed to the caller at once
+     */
+    public PrefetchingIterator(Iterator<? extends T> source, Executor executor, int capacity, int batchSize) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (batchSize < 1 || batchSize > capacity) {
+            throw new IllegalArgumentException("batchSize must be in [1, " + capacity + "]: " + batchSize);
+        }
+        this.fetcher = new Fetcher(source, capacity / batchSize, batchSize, this);
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (batch != null && index < batch.length) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            executor.execute(fetcher);
+        }
+        Object item = fetcher.take();
+        if (item == END) {
+            done = true;
+            batch = null;
+            return false;
+        }
+        if (item instanceof Failure) {
+            done = true;
+            batch = null;
+            throw Throwables.propagate(((Failure) item).cause);
+        }
+        batch = (Object[]) item;
+        index = 0;
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        @SuppressWarnings("unchecked")
+        T next = (T) batch[index];
+        batch[index++] = null;
+        return next;
+    }
+
+    /**
+     * Stop fetching and discard any prefetched elements; later calls to {@link #hasNext()} return {@code false}.
+     */
+    @Override
+    public void close() {
+        done = true;
+        batch = null;
+        fetcher.cancel();
+    }
+
+    /**
+     * The number of elements fetched from the source so far.
+     *
+     * @return the count of fetched elements
+     */
+    public long getFetched() {
+        return fetcher.fetched.sum();
+    }
+
+    /**
+     * The number of batches that can be queued at once.
+     *
+     * @return the capacity of the queue in batches
+     */
+    public int getCapacityBatches() {
+        return fetcher.capacityBatches;
+    }
+
+    /**
+     * The number of batches fetched and waiting for the caller.
+     *
+     * @return the current size of the queue in batches
+     */
+    public int getQueuedBatches() {
+        return fetcher.queue.size();
+    }
+
+    /**
+     * The most batches that have been queued at once.
+     *
+     * @return the high-water mark of the queue in batches
+     */
+    public int getMaxQueuedBatches() {
+        return fetcher.maxQueued.get();
+    }
+
+    /**
+     * The mean number of batches that were queued each time the caller took one; close to
+     * {@link #getCapacityBatches()} when the caller is the bottleneck, and close to zero when the source is.
+     *
+     * @return the average occupancy of the queue in batches, or zero before the first batch is taken
+     */
+    public double getAverageQueuedBatches() {
+        long takes = fetcher.takes.sum();
+        return takes == 0 ? 0 : (double) fetcher.queuedAtTake.sum() / takes;
+    }
+
+    /**
+     * The number of times the queue was full, so the fetch waited for the caller.
+     *
+     * @return the count of fetch stalls
+     */
+    public long getFetchStalls() {
+        return fetcher.fetchStalls.sum();
+    }
+
+    /**
+     * The number of times the queue was empty, so the caller waited for the fetch.
+     *
+     * @return the count of caller stalls
+     */
+    public long getCallerStalls() {
+        return fetcher.callerStalls.sum();
+    }
+
+    /**
+     * An exception thrown by the source, queued after the elements that preceded it.
+     */
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * The fetch task and the state it shares with the caller; it refers to the iterator only weakly, so that an
+     * abandoned iterator can be collected and its fetch cancelled.
+     */
+    private static final class Fetcher implements Runnable {
+        final BlockingQueue<Object> queue;
+        final int capacityBatches;
+        final LongAdder fetched = new LongAdder();
+        final AtomicInteger maxQueued = new AtomicInteger();
+        final LongAdder takes = new LongAdder();
+        final LongAdder queuedAtTake = new LongAdder();
+        final LongAdder fetchStalls = new LongAdder();
+        final LongAdder callerStalls = new LongAdder();
+        private final Iterator<?> source;
+        private final int batchSize;
+        private final WeakReference<Object> owner;
+        private volatile boolean cancelled;
+        private volatile boolean finished;
+        private Thread thread;
+
+        Fetcher(Iterator<?> source, int capacityBatches, int batchSize, Object owner) {
+            this.queue = new ArrayBlockingQueue<>(capacityBatches);
+            this.capacityBatches = capacityBatches;
+            this.source = source;
+            this.batchSize = batchSize;
+            this.owner = new WeakReference<>(owner);
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    finished = true;
+                    return;
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                fetch();
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                }
+                // Clear an interrupt from cancel(), so it does not leak to the executor's next task.
+                Thread.interrupted();
+                finished = true;
+            }
+        }
+
+        private void fetch() {
+            Object[] batch = new Object[batchSize];
+            int size = 0;
+            try {
+                while (!cancelled && source.hasNext()) {
+                    Object next = source.next();
+                    batch[size++] = next;
+                    if (size == batchSize) {
+                        fetched.add(size);
+                        if (!put(batch)) {
+                            return;
+                        }
+                        batch = new Object[batchSize];
+                        size = 0;
+                    }
+                }
+            } catch (Throwable t) {
+                fetched.add(size);
+                if (size == 0 || put(Arrays.copyOf(batch, size))) {
+                    put(new Failure(t));
+                }
+                return;
+            }
+            fetched.add(size);
+            if (size == 0 || put(Arrays.copyOf(batch, size))) {
+                put(END);
+            }
+        }
+
+        /**
+         * Queue {@code item}, waiting for room unless cancelled.
+         *
+         * @param item the batch, failure or end to queue
+         * @return whether it was queued
+         */
+        private boolean put(Object item) {
+            try {
+                if (!queue.offer(item)) {
+                    fetchStalls.increment();
+                    while (!queue.offer(item, CHECK_NANOS, TimeUnit.NANOSECONDS)) {
+                        if (cancelled || owner.get() == null) {
+                            return false;
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                return false;
+            }
+            maxQueued.accumulateAndGet(queue.size(), Math::max);
+            return true;
+        }
+
+        /**
+         * Take the next batch, failure or end, waiting for one if need be.
+         *
+         * @return the next item of the queue
+         */
+        @Nonnull
+        Object take() {
+            int queued = queue.size();
+            Object item = queue.poll();
+            if (item == null) {
+                callerStalls.increment();
+                try {
+                    while (item == null) {
+                        item = queue.poll(CHECK_NANOS, TimeUnit.NANOSECONDS);
+                        if (item == null && finished && (item = queue.poll()) == null) {
+                            throw new IllegalStateException("Prefetching stopped before the source was exhausted");
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for prefetched elements", e);
+                }
+            }
+            takes.increment();
+            queuedAtTake.add(queued);
+            return item;
+        }
+
+        void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * How records are framed in a buffer, so that a {@link MappedRecordSpliterator} can find where each record ends and
+ * split at record boundaries.
+ * <p>
+ * Offsets are absolute indexes into the buffer; a record starts at a boundary and the next starts where it ends,
+ * including any delimiter or length prefix.
+ *
+ * @author scr
+ */
+public abstract class RecordFormat {
+    RecordFormat() {
+    }
+
+    /**
+     * Records ended by {@code delimiter}, which is not part of the record; the last record may omit it.
+     *
+     * @param delimiter the byte that ends each record, such as {@code '\n'}
+     * @return a delimited format
+     */
+    @Nonnull
+    public static RecordFormat delimited(byte delimiter) {
+        return new Delimited(delimiter);
+    }
+
+    /**
+     * Records of exactly {@code length} bytes; a shorter last record holds whatever bytes are left.
+     *
+     * @param length the number of bytes in each record
+     * @return a fixed-length format
+     */
+    @Nonnull
+    public static RecordFormat fixedLength(int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("length must be positive: " + length);
+        }
+        return new FixedLength(length);
+    }
+
+    /**
+     * Records preceded by an unsigned length of {@code prefixBytes} bytes, which is not part of the record.
+     *
+     * @param prefixBytes the size of the length prefix: 1, 2 or 4
+     * @param order       the byte order of the length prefix
+     * @return a length-prefixed format
+     */
+    @Nonnull
+    public static RecordFormat lengthPrefixed(int prefixBytes, ByteOrder order) {
+        if (prefixBytes != 1 && prefixBytes != 2 && prefixBytes != 4) {
+            throw new IllegalArgumentException("prefixBytes must be 1, 2 or 4: " + prefixBytes);
+        }
+        return new LengthPrefixed(prefixBytes, order);
+    }
+
+    /**
+     * Find where the record starting at {@code start} ends.
+     *
+     * @param buffer the buffer
+     * @param start  the boundary where the record starts, less than {@code limit}
+     * @param limit  the end of the records
+     * @return the boundary after the record
+     * @throws IllegalStateException if the record is truncated
+     */
+    abstract int next(ByteBuffer buffer, int start, int limit);
+
+    /**
+     * A view of the content of the record from {@code start} to {@code next}, without its framing.
+     *
+     * @param buffer the buffer
+     * @param start  the boundary where the record starts
+     * @param next   the boundary after the record, from {@link #next(ByteBuffer, int, int)}
+     * @return a view sharing the buffer's content
+     */
+    @Nonnull
+    abstract ByteBuffer record(ByteBuffer buffer, int start, int next);
+
+    /**
+     * Find the first boundary at or after {@code candidate}.
+     *
+     * @param buffer    the buffer
+     * @param lo        a known boundary, no greater than {@code candidate}
+     * @param candidate the offset to align
+     * @param limit     the end of the records
+     * @return the first boundary at or after {@code candidate}, or {@code limit} if there is none
+     */
+    abstract int align(ByteBuffer buffer, int lo, int candidate, int limit);
+
+    /**
+     * Find the last boundary at or before {@code limit} of records starting at the buffer's index 0, where the buffer
+     * may end in the middle of a record.
+     *
+     * @param buffer the buffer
+     * @param limit  the end of the buffer's content
+     * @return the end of the last whole record, or {@code 0} if not even the first is whole
+     */
+    abstract int lastBoundary(ByteBuffer buffer, int limit);
+
+    /**
+     * A view of {@code buffer} from {@code from} to {@code to}, indexed from zero.
+     */
+    static ByteBuffer slice(ByteBuffer buffer, int from, int to) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.limit(to);
+        duplicate.position(from);
+        return duplicate.slice();
+    }
+
+    private static final class Delimited extends RecordFormat {
+        private final byte delimiter;
+
+        Delimited(byte delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        int next(ByteBuffer buffer, int start, int limit) {
+            for (int i = start; i < limit; ++i) {
+                if (buffer.get(i) == delimiter) {
+                    return i + 1;
+                }
+            }
+            return limit;
+        }
+
+        @Override
+        @Nonnull
+        ByteBuffer record(ByteBuffer buffer, int start, int next) {
+            // Only a record that ends the buffer may lack its delimiter, and then its last byte is not one.
+            int end = next > start && buffer.get(next - 1) == delimiter ? next - 1 : next;
+            return slice(buffer, start, end);
+        }
+
+        @Override
+        int align(ByteBuffer buffer, int lo, int candidate, int limit) {
+            if (candidate <= lo || buffer.get(candidate - 1) == delimiter) {
+                return Math.max(lo, candidate);
+            }
+            return next(buffer, candidate, limit);
+        }
+
+        @Override
+        int lastBoundary(ByteBuffer buffer, int limit) {
+            for (int i = limit - 1; i >= 0; --i) {
+                if (buffer.get(i) == delimiter) {
+                    return i + 1;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final class FixedLength extends RecordFormat {
+        private final int length;
+
+        FixedLength(int length) {
+            this.length = length;
+        }
+
+        @Override
+        int next(ByteBuffer buffer, int start, int limit) {
+            return (int) Math.min((long) start + length, limit);
+        }
+
+        @Override
+        @Nonnull
+        ByteBuffer record(ByteBuffer buffer, int start, int next) {
+            return slice(buffer, start, next);
+        }
+
+        @Override
+        int align(ByteBuffer buffer, int lo, int candidate, int limit) {
+            long records = ((long) candidate - lo + length - 1) / length;
+            return (int) Math.min(lo + records * length, limit);
+        }
+
+        @Override
+        int lastBoundary(ByteBuffer buffer, int limit) {
+            return limit - limit % length;
+        }
+    }
+
+    private static final class LengthPrefixed extends RecordFormat {
+        private final int prefixBytes;
+        private final ByteOrder order;
+
+        LengthPrefixed(int prefixBytes, ByteOrder order) {
+            this.prefixBytes = prefixBytes;
+            this.order = order;
+        }
+
+        @Override
+        int next(ByteBuffer buffer, int start, int limit) {
+            long next = end(buffer, start, limit);
+            if (next < 0) {
+                throw new IllegalStateException("Truncated record at " + start);
+            }
+            return (int) next;
+        }
+
+        @Override
+        @Nonnull
+        ByteBuffer record(ByteBuffer buffer, int start, int next) {
+            return slice(buffer, start + prefixBytes, next);
+        }
+
+        @Override
+        int align(ByteBuffer buffer, int lo, int candidate, int limit) {
+            // Lengths must be followed from a known boundary; only the prefixes are read.
+            int boundary = lo;
+            while (boundary < candidate && boundary < limit) {
+                boundary = next(buffer, boundary, limit);
+            }
+            return boundary;
+        }
+
+        @Override
+        int lastBoundary(ByteBuffer buffer, int limit) {
+            int boundary = 0;
+            for (long next; boundary < limit && (next = end(buffer, boundary, limit)) >= 0; ) {
+                boundary = (int) next;
+            }
+            return boundary;
+        }
+
+        /**
+         * The end of the record at {@code start}, or {@code -1} if it does not fit before {@code limit}.
+         */
+        private long end(ByteBuffer buffer, int start, int limit) {
+            if ((long) start + prefixBytes > limit) {
+                return -1;
+            }
+            long length = 0;
+            for (int i = 0; i < prefixBytes; ++i) {
+                int shift = order == ByteOrder.BIG_ENDIAN ? (prefixBytes - 1 - i) << 3 : i << 3;
+                length |= (buffer.get(start + i) & 0xFFL) << shift;
+            }
+            long end = (long) start + prefixBytes + length;
+            return end > limit ? -1 : end;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.collect.FluentIterable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * An Iterable over a one-shot {@link Stream} that may be iterated any number of times, concurrently.
+ * <p>
+ * Elements are cached in chunks as iterators pull them from the stream; iterators behind the furthest one replay the
+ * cache. Once more than {@code maxChunksInMemory} chunks are cached, the oldest are spilled to a temporary file with a
+ * {@link SpillCodec} and read back a chunk at a time by the iterators that need them, so the memory used is about
+ * {@code maxChunksInMemory} chunks plus one chunk per active iterator. The stream is closed when it is exhausted, and
+ * the cache and spill file are released by {@link #close()}.
+ *
+ * @param <T> The type of elements
+ * @author scr
+ * @apiNote Any {@link IOException} is converted to {@link UncheckedIOException}.
+ * @see StreamIterable
+ */
+public class ReplayableStreamIterable<T> extends FluentIterable<T> implements KnownCharacteristics, AutoCloseable {
+    /**
+     * The default number of elements per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 10;
+
+    private final Stream<T> stream;
+    private final int chunkSize;
+    private final int maxChunksInMemory;
+    @Nullable
+    private final SpillCodec<T> codec;
+    @Nullable
+    private final Path tempDir;
+
+    // Guarded by this.
+    @Nullable
+    private Iterator<T> source;
+    private boolean exhausted;
+    private boolean closed;
+    private final List<Object[]> chunks = new ArrayList<>();
+    private final List<Integer> spillIndexes = new ArrayList<>();
+    private int chunksInMemory;
+    private int oldestInMemory;
+    @Nullable
+    private SpillFile<T> spillFile;
+
+    // Written under the lock after the element it counts, so that cached elements can be read without it.
+    private volatile long size;
+
+    /**
+     * Create an iterable that caches all of {@code stream} in memory.
+     *
+     * @param stream the stream to replay
+     */
+    public ReplayableStreamIterable(Stream<T> stream) {
+        this(stream, DEFAULT_CHUNK_SIZE, Integer.MAX_VALUE, null, null);
+    }
+
+    /**
+     * Create an iterable that caches at most {@code maxChunksInMemory} chunks of {@code stream} in memory and spills the
+     * rest.
+     *
+     * @param stream            the stream to replay
+     * @param chunkSize         the number of elements per chunk
+     * @param maxChunksInMemory the most chunks cached in memory
+     * @param codec             the codec to spill elements with, or {@code null} to never spill
+     * @param tempDir           the directory for the spill file, or {@code null} for the default temporary-file
+     *                          directory
+     */
+    public ReplayableStreamIterable(Stream<T> stream, int chunkSize, int maxChunksInMemory,
+                                    @Nullable SpillCodec<T> codec, @Nullable Path tempDir) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        if (maxChunksInMemory < 1) {
+            throw new IllegalArgumentException("maxChunksInMemory must be positive: " + maxChunksInMemory);
+        }
+        this.stream = stream;
+        this.chunkSize = chunkSize;
+        this.maxChunksInMemory = codec == null ? Integer.MAX_VALUE : maxChunksInMemory;
+        this.codec = codec;
+        this.tempDir = tempDir;
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<T> iterator() {
+        return new ReplayIterator();
+    }
+
+    @Override
+    @Nonnull
+    public Spliterator<T> spliterator() {
+        return new IteratorBatchSpliterator<>(iterator(), Spliterator.ORDERED);
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED;
+    }
+
+    /**
+     * The number of elements pulled from the stream so far.
+     *
+     * @return the number of cached elements
+     */
+    public long getCachedSize() {
+        return size;
+    }
+
+    /**
+     * The number of chunks spilled to disk so far.
+     *
+     * @return the number of spilled chunks
+     */
+    public synchronized int getSpilledChunks() {
+        return spillFile == null ? 0 : spillFile.chunkCount();
+    }
+
+    /**
+     * Close the stream, release the cache and delete the spill file; later iteration throws
+     * {@link IllegalStateException}.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunks.clear();
+        spillIndexes.clear();
+        try {
+            if (spillFile != null) {
+                spillFile.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            spillFile = null;
+            stream.close();
+        }
+    }
+
+    /**
+     * Pull from the stream until element {@code index} is cached.
+     *
+     * @return whether element {@code index} exists
+     */
+    private synchronized boolean pull(long index) {
+        while (size <= index) {
+            checkOpen();
+            if (exhausted) {
+                return false;
+            }
+            if (source == null) {
+                source = stream.iterator();
+            }
+            if (!source.hasNext()) {
+                exhausted = true;
+                stream.close();
+                return false;
+            }
+            append(source.next());
+        }
+        return true;
+    }
+
+    private void append(T element) {
+        int offset = (int) (size % chunkSize);
+        if (offset == 0) {
+            if (chunksInMemory >= maxChunksInMemory) {
+                spillOldest();
+            }
+            chunks.add(new Object[chunkSize]);
+            spillIndexes.add(-1);
+            ++chunksInMemory;
+        }
+        chunks.get(chunks.size() - 1)[offset] = element;
+        size = size + 1;
+    }
+
+    private void spillOldest() {
+        try {
+            if (spillFile == null) {
+                spillFile = new SpillFile<>(codec, tempDir);
+            }
+            spillFile.append(chunks.get(oldestInMemory), chunkSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        spillIndexes.set(oldestInMemory, spillFile.chunkCount() - 1);
+        chunks.set(oldestInMemory++, null);
+        --chunksInMemory;
+    }
+
+    private synchronized Object[] chunk(int chunk) {
+        checkOpen();
+        Object[] ret = chunks.get(chunk);
+        if (ret != null) {
+            return ret;
+        }
+        ret = new Object[chunkSize];
+        try {
+            spillFile.read(spillIndexes.get(chunk), ret);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ret;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+    }
+
+    /**
+     * Iterator over the cache, pulling from the stream when it reaches the end of the cache.
+     */
+    private final class ReplayIterator implements Iterator<T> {
+        private long index;
+        private int chunkIndex = -1;
+        @Nullable
+        private Object[] chunk;
+
+        @Override
+        public boolean hasNext() {
+            return index < size || pull(index);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int c = (int) (index / chunkSize);
+            if (c != chunkIndex) {
+                chunk = chunk(c);
+                chunkIndex = c;
+            }
+            @SuppressWarnings("unchecked")
+            T ret = (T) chunk[(int) (index++ % chunkSize)];
+            return ret;
+        }
+    }
+}
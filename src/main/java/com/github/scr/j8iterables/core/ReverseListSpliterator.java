@@ -0,0 +1,84 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a {@link RandomAccess} {@link List} in reverse order, which splits by index range.
+ * <p>
+ * Splitting hands the higher half of the remaining indexes (the prefix in reverse order) to the new spliterator. The
+ * range is fixed when the spliterator is created, so the list should not be structurally modified during traversal.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ */
+public class ReverseListSpliterator<T> implements Spliterator<T> {
+    /**
+     * The characteristics of every ReverseListSpliterator.
+     */
+    public static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+
+    private final List<T> list;
+    private final int origin;
+    private int index;
+
+    /**
+     * Create a spliterator over the whole of {@code list}, from the last element to the first.
+     *
+     * @param list the list to traverse; should be {@link RandomAccess}
+     */
+    public ReverseListSpliterator(List<T> list) {
+        this(list, 0, list.size());
+    }
+
+    private ReverseListSpliterator(List<T> list, int origin, int index) {
+        this.list = list;
+        this.origin = origin;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index <= origin) {
+            return false;
+        }
+        action.accept(list.get(--index));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        List<T> l = list;
+        int lo = origin;
+        int i = index;
+        index = lo;
+        while (i > lo) {
+            action.accept(l.get(--i));
+        }
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        int hi = index;
+        int mid = (origin + hi) >>> 1;
+        if (mid <= origin) {
+            return null;
+        }
+        index = mid;
+        return new ReverseListSpliterator<>(list, mid, hi);
+    }
+
+    @Override
+    public long estimateSize() {
+        return index - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
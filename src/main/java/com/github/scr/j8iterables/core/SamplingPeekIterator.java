@@ -0,0 +1,61 @@
+package com.github.scr.j8iterables.core;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * This iterator allows peeking at a sample of elements without transformation.
+ *
+ * @author scr
+ * @see PeekSampler
+ * @see com.github.scr.j8iterables.J8Iterables#peek(Iterable, PeekSampler, Consumer)
+ */
+public class SamplingPeekIterator<E> implements Iterator<E> {
+    private final Iterator<E> backingIterator;
+    private final PeekSampler sampler;
+    private final Consumer<? super E> consumer;
+    private long countdown;
+
+    public SamplingPeekIterator(Iterator<E> iterator, PeekSampler sampler, Consumer<? super E> consumer) {
+        this.backingIterator = iterator;
+        this.sampler = sampler;
+        this.consumer = consumer;
+        this.countdown = sampler.firstGap();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return backingIterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+        E ret = backingIterator.next();
+        if (--countdown == 0) {
+            sample(ret);
+        }
+        return ret;
+    }
+
+    @Override
+    public void remove() {
+        backingIterator.remove();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        backingIterator.forEachRemaining(e -> {
+            if (--countdown == 0) {
+                sample(e);
+            }
+            action.accept(e);
+        });
+    }
+
+    private void sample(E e) {
+        countdown = sampler.nextGap();
+        if (sampler.test()) {
+            consumer.accept(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes elements to, and reads them back from, temporary files when they are spilled out of memory.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ */
+public interface SpillCodec<T> {
+    /**
+     * Write {@code value} to {@code out}.
+     *
+     * @param out   the output
+     * @param value the element to write
+     * @throws IOException if writing fails
+     */
+    void write(ObjectOutput out, T value) throws IOException;
+
+    /**
+     * Read an element written by {@link #write(ObjectOutput, Object)} from {@code in}.
+     *
+     * @param in the input
+     * @return the element
+     * @throws IOException if reading fails
+     */
+    T read(ObjectInput in) throws IOException;
+
+    /**
+     * A codec using Java serialization, for elements that are {@link java.io.Serializable} (or {@code null}).
+     *
+     * @param <T> the type of elements
+     * @return a codec writing elements with {@link ObjectOutput#writeObject(Object)}
+     */
+    @Nonnull
+    static <T> SpillCodec<T> serializable() {
+        return new SpillCodec<T>() {
+            @Override
+            public void write(ObjectOutput out, T value) throws IOException {
+                out.writeObject(value);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T read(ObjectInput in) throws IOException {
+                try {
+                    return (T) in.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * A compact codec for non-null strings of any length, written as length-prefixed UTF-8.
+     *
+     * @return a codec for strings
+     */
+    @Nonnull
+    static SpillCodec<String> strings() {
+        return new SpillCodec<String>() {
+            @Override
+            public void write(ObjectOutput out, String value) throws IOException {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(ObjectInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
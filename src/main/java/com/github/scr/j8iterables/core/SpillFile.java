@@ -0,0 +1,145 @@
+package com.github.scr.j8iterables.core;
+
+import com.google.common.io.CountingOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A temporary file of chunks of elements, each written with a {@link SpillCodec} and readable in any order.
+ * <p>
+ * The file is deleted when closed.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ */
+class SpillFile<T> implements Closeable {
+    private final SpillCodec<T> codec;
+    private final Path path;
+    private final FileChannel channel;
+    private final CountingOutputStream countingOutputStream;
+    private final List<long[]> chunks = new ArrayList<>();
+
+    /**
+     * Create a new temporary file.
+     *
+     * @param codec   the codec for elements
+     * @param tempDir the directory for the file, or {@code null} for the default temporary-file directory
+     * @throws IOException if the file cannot be created
+     */
+    SpillFile(SpillCodec<T> codec, Path tempDir) throws IOException {
+        this.codec = codec;
+        this.path = tempDir == null
+                ? Files.createTempFile("j8iterables", ".spill")
+                : Files.createTempFile(tempDir, "j8iterables", ".spill");
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        this.countingOutputStream = new CountingOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+    }
+
+    /**
+     * The number of chunks appended.
+     *
+     * @return the number of chunks
+     */
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * The number of elements in a chunk.
+     *
+     * @param chunk the index of the chunk
+     * @return the number of elements in it
+     */
+    int chunkSize(int chunk) {
+        return (int) chunks.get(chunk)[1];
+    }
+
+    /**
+     * Append {@code elements[0, size)} as a new chunk.
+     *
+     * @param elements the elements to write
+     * @param size     the number of elements to write
+     * @throws IOException if writing fails
+     */
+    void append(Object[] elements, int size) throws IOException {
+        long offset = countingOutputStream.getCount();
+        // A stream per chunk, so that each chunk can be read on its own; closing it would close the file.
+        ObjectOutputStream out = new ObjectOutputStream(nonClosing(countingOutputStream));
+        for (int i = 0; i < size; ++i) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            codec.write(out, element);
+        }
+        out.flush();
+        chunks.add(new long[]{offset, size});
+    }
+
+    /**
+     * Read a chunk into the start of {@code elements}.
+     *
+     * @param chunk    the index of the chunk
+     * @param elements an array with room for the chunk
+     * @return the number of elements read
+     * @throws IOException if reading fails
+     */
+    int read(int chunk, Object[] elements) throws IOException {
+        countingOutputStream.flush();
+        long[] offsetAndSize = chunks.get(chunk);
+        int size = (int) offsetAndSize[1];
+        ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel.position(offsetAndSize[0])), 1 << 16));
+        for (int i = 0; i < size; ++i) {
+            elements[i] = codec.read(in);
+        }
+        // Leave the position at the end, for appending.
+        channel.position(countingOutputStream.getCount());
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static OutputStream nonClosing(OutputStream outputStream) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                outputStream.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                outputStream.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                outputStream.flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator that reverses a source iterator while holding at most one chunk of elements in memory.
+ * <p>
+ * On first use, the source is read in chunks of {@code chunkSize}; every full chunk that is followed by more elements is
+ * spilled to a temporary file with a {@link SpillCodec}. The last chunk is then iterated backwards from memory, followed
+ * by each spilled chunk, newest first. The file is deleted once the iterator is exhausted or {@link #close() closed}, so
+ * iterators that may be abandoned should be closed.
+ *
+ * @param <T> the type of elements
+ * @author scr
+ * @apiNote Any {@link IOException} is converted to {@link UncheckedIOException}.
+ */
+public class SpillingReverseIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Iterator<? extends T> source;
+    private final int chunkSize;
+    private final SpillCodec<T> codec;
+    @Nullable
+    private final Path tempDir;
+    @Nullable
+    private Object[] buffer;
+    @Nullable
+    private SpillFile<T> spillFile;
+    private int index;
+    private int nextChunk = -1;
+    private boolean started;
+
+    /**
+     * Create an iterator that reverses {@code source}.
+     *
+     * @param source    the iterator to reverse
+     * @param chunkSize the most elements held in memory at once
+     * @param codec     the codec to spill elements with
+     * @param tempDir   the directory for the spill file, or {@code null} for the default temporary-file directory
+     */
+    public SpillingReverseIterator(Iterator<? extends T> source, int chunkSize, SpillCodec<T> codec,
+                                   @Nullable Path tempDir) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.codec = codec;
+        this.tempDir = tempDir;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            spill();
+        }
+        while (index == 0) {
+            if (nextChunk < 0) {
+                close();
+                return false;
+            }
+            try {
+                index = spillFile.read(nextChunk--, buffer);
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T ret = (T) buffer[--index];
+        buffer[index] = null;
+        return ret;
+    }
+
+    /**
+     * Whether any elements were spilled to disk.
+     *
+     * @return {@code true} if the source had more than {@code chunkSize} elements
+     */
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Delete the spill file, if any, and release the buffered elements.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        index = 0;
+        nextChunk = -1;
+        started = true;
+        if (spillFile != null) {
+            try {
+                spillFile.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                spillFile = null;
+            }
+        }
+    }
+
+    /**
+     * Read the whole source, spilling all but the last chunk.
+     */
+    private void spill() {
+        buffer = new Object[Math.min(chunkSize, 16)];
+        boolean spilled = false;
+        try {
+            while (source.hasNext()) {
+                if (index == chunkSize) {
+                    if (spillFile == null) {
+                        spillFile = new SpillFile<>(codec, tempDir);
+                    }
+                    spillFile.append(buffer, index);
+                    index = 0;
+                } else if (index == buffer.length) {
+                    Object[] grown = new Object[(int) Math.min(chunkSize, (long) buffer.length << 1)];
+                    System.arraycopy(buffer, 0, grown, 0, index);
+                    buffer = grown;
+                }
+                buffer[index++] = source.next();
+            }
+            spilled = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!spilled) {
+                close();
+            }
+        }
+        nextChunk = spillFile == null ? -1 : spillFile.chunkCount() - 1;
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.scr.j8iterables.core;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A {@link RecursiveTask} that accumulates the elements of a {@link Spliterator} by splitting it into pieces.
+ * <p>
+ * When given a shared container (for {@link Collector.Characteristics#CONCURRENT} collectors), every piece accumulates
+ * into that one container. Otherwise, each piece accumulates into its own container and the containers are combined in
+ * encounter order.
+ *
+ * @param <T> The type of elements
+ * @param <A> The type of accumulator
+ * @author scr
+ */
+public class SpliteratorCollectTask<T, A> extends RecursiveTask<A> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The size of pieces to split unsized spliterators into.
+     */
+    private static final long UNSIZED_TARGET_SIZE = 1 << 10;
+
+    private final Spliterator<T> spliterator;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final BinaryOperator<A> combiner;
+    @Nullable
+    private final A sharedContainer;
+    private final long targetSize;
+
+    /**
+     * Create a task that accumulates the {@code spliterator} with the {@code collector}.
+     *
+     * @param spliterator     the spliterator to traverse
+     * @param collector       the collector supplying the container, accumulator and combiner
+     * @param sharedContainer the container to accumulate concurrently into, or null for a container per piece
+     * @param parallelism     the parallelism to target when choosing the size of pieces
+     */
+    public SpliteratorCollectTask(Spliterator<T> spliterator, Collector<? super T, A, ?> collector,
+                                  @Nullable A sharedContainer, int parallelism) {
+        this(spliterator, collector.supplier(), collector.accumulator(), collector.combiner(), sharedContainer,
+                targetSize(spliterator.estimateSize(), parallelism));
+    }
+
+    private SpliteratorCollectTask(Spliterator<T> spliterator, Supplier<A> supplier,
+                                   BiConsumer<A, ? super T> accumulator, BinaryOperator<A> combiner,
+                                   @Nullable A sharedContainer, long targetSize) {
+        this.spliterator = spliterator;
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.sharedContainer = sharedContainer;
+        this.targetSize = targetSize;
+    }
+
+    /**
+     * Determine the size of pieces so that there are a few per worker of {@code parallelism}.
+     *
+     * @param estimatedSize the estimated size of the whole spliterator
+     * @param parallelism   the number of workers
+     * @return the size below which pieces are no longer split
+     */
+    static long targetSize(long estimatedSize, int parallelism) {
+        if (estimatedSize == Long.MAX_VALUE) {
+            return UNSIZED_TARGET_SIZE;
+        }
+        return Math.max(1, estimatedSize / ((long) Math.max(1, parallelism) << 2));
+    }
+
+    @Override
+    protected A compute() {
+        List<SpliteratorCollectTask<T, A>> prefixTasks = new ArrayList<>();
+        Spliterator<T> prefix;
+        while (spliterator.estimateSize() > targetSize && (prefix = spliterator.trySplit()) != null) {
+            SpliteratorCollectTask<T, A> prefixTask = new SpliteratorCollectTask<>(
+                    prefix, supplier, accumulator, combiner, sharedContainer, targetSize);
+            prefixTask.fork();
+            prefixTasks.add(prefixTask);
+        }
+        A container = sharedContainer != null ? sharedContainer : supplier.get();
+        spliterator.forEachRemaining(t -> accumulator.accept(container, t));
+        if (sharedContainer != null) {
+            for (SpliteratorCollectTask<T, A> prefixTask : prefixTasks) {
+                prefixTask.join();
+            }
+            return sharedContainer;
+        }
+        // Each prefix precedes the ones split after it, and all of them precede what remains in this task.
+        A result = null;
+        boolean first = true;
+        for (SpliteratorCollectTask<T, A> prefixTask : prefixTasks) {
+            A prefixResult = prefixTask.join();
+            result = first ? prefixResult : combiner.apply(result, prefixResult);
+            first = false;
+        }
+        return first ? container : combiner.apply(result, container);
+    }
+}
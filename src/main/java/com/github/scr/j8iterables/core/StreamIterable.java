@@ -34,4 +34,14 @@ public class StreamIterable<T> extends FluentIterable<T> {
     public Spliterator<T> spliterator() {
         return STREAM.spliterator();
     }
+
+    /**
+     * Get the wrapped stream, which keeps its own characteristics and late binding.
+     *
+     * @return the stream this iterable was created from
+     */
+    @Nonnull
+    public Stream<T> stream() {
+        return STREAM;
+    }
 }
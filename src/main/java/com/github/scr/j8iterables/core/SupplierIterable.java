@@ -3,7 +3,11 @@ package com.github.scr.j8iterables.core;
 import com.google.common.collect.FluentIterable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -11,11 +15,87 @@ import java.util.function.Supplier;
  *
  * @author scr
  */
-public class SupplierIterable<E> extends FluentIterable<E> {
+public class SupplierIterable<E> extends FluentIterable<E> implements KnownCharacteristics {
     private final Supplier<Iterator<E>> SUPPLIER;
+    @Nullable
+    private final Supplier<Spliterator<E>> SPLITERATOR_SUPPLIER;
+    @Nullable
+    private final LongSupplier SIZE_SUPPLIER;
+    private final int CHARACTERISTICS;
 
     public SupplierIterable(Supplier<Iterator<E>> supplier) {
+        this(supplier, 0);
+    }
+
+    /**
+     * Create an iterable whose spliterators report {@code characteristics}.
+     * <p>
+     * The size of the supplied iterators is unknown, so {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} are
+     * ignored, and spliterators split off batches as an {@link IteratorBatchSpliterator}.
+     *
+     * @param supplier        the supplier of iterators
+     * @param characteristics the spliterator characteristics of the supplied iterators
+     */
+    public SupplierIterable(Supplier<Iterator<E>> supplier, int characteristics) {
+        SUPPLIER = supplier;
+        SPLITERATOR_SUPPLIER = null;
+        SIZE_SUPPLIER = null;
+        CHARACTERISTICS = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Create an iterable whose spliterators come from {@code spliteratorSupplier}, which may split better than batches of
+     * the supplied iterators.
+     *
+     * @param supplier            the supplier of iterators
+     * @param spliteratorSupplier the supplier of spliterators over the same elements
+     * @param characteristics     the characteristics of the supplied spliterators, which may include
+     *                            {@link Spliterator#SIZED}
+     */
+    public SupplierIterable(Supplier<Iterator<E>> supplier, Supplier<Spliterator<E>> spliteratorSupplier,
+                            int characteristics) {
+        this(supplier, spliteratorSupplier, null, characteristics);
+    }
+
+    /**
+     * Create an iterable whose size is given by {@code sizeSupplier} without iterating.
+     * <p>
+     * Without a {@code spliteratorSupplier}, spliterators are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+     * over the supplied iterators, splitting off arithmetically growing batches; with one, they are its spliterators,
+     * which must report the same size.
+     *
+     * @param supplier            the supplier of iterators
+     * @param spliteratorSupplier the supplier of spliterators over the same elements, or {@code null}
+     * @param sizeSupplier        the exact number of elements the next iterator or spliterator will have, or
+     *                            {@code null} if unknown
+     * @param characteristics     the characteristics of the supplied iterators or spliterators
+     */
+    public SupplierIterable(Supplier<Iterator<E>> supplier, @Nullable Supplier<Spliterator<E>> spliteratorSupplier,
+                            @Nullable LongSupplier sizeSupplier, int characteristics) {
         SUPPLIER = supplier;
+        SPLITERATOR_SUPPLIER = spliteratorSupplier;
+        SIZE_SUPPLIER = sizeSupplier;
+        if (sizeSupplier == null) {
+            CHARACTERISTICS = spliteratorSupplier == null
+                    ? characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED)
+                    : characteristics;
+        } else {
+            CHARACTERISTICS = spliteratorSupplier == null
+                    ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
+                    : characteristics | Spliterator.SIZED;
+        }
+    }
+
+    /**
+     * The number of elements, if given when this iterable was created.
+     * <p>
+     * {@link FluentIterable#size()} cannot be overridden to use this, so prefer
+     * {@link com.github.scr.j8iterables.J8Iterables#size(Iterable)}, which does.
+     *
+     * @return the number of elements, or {@code -1} if unknown without iterating
+     */
+    public long sizeIfKnown() {
+        return SIZE_SUPPLIER == null ? -1 : SIZE_SUPPLIER.getAsLong();
     }
 
     @Override
@@ -23,4 +103,21 @@ public class SupplierIterable<E> extends FluentIterable<E> {
     public Iterator<E> iterator() {
         return SUPPLIER.get();
     }
+
+    @Override
+    @Nonnull
+    public Spliterator<E> spliterator() {
+        if (SPLITERATOR_SUPPLIER != null) {
+            return SPLITERATOR_SUPPLIER.get();
+        }
+        if (SIZE_SUPPLIER != null) {
+            return Spliterators.spliterator(iterator(), SIZE_SUPPLIER.getAsLong(), CHARACTERISTICS);
+        }
+        return new IteratorBatchSpliterator<>(iterator(), CHARACTERISTICS);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
 }
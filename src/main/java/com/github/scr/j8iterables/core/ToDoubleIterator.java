@@ -2,6 +2,7 @@ package com.github.scr.j8iterables.core;
 
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -27,4 +28,10 @@ public class ToDoubleIterator<T> implements PrimitiveIterator.OfDouble {
     public boolean hasNext() {
         return backingIterator.hasNext();
     }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        ToDoubleFunction<T> f = toDoubleFunction;
+        backingIterator.forEachRemaining(t -> action.accept(f.applyAsDouble(t)));
+    }
 }
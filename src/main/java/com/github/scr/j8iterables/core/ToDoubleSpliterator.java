@@ -2,17 +2,24 @@ package com.github.scr.j8iterables.core;
 
 import javax.annotation.Nullable;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.ToDoubleFunction;
 
 /**
  * Map a {@link Spliterator} to {@link Spliterator.OfDouble}.
+ * <p>
+ * Traversal passes a single reusable adapter to the backing spliterator rather than a new lambda per element. Mapping
+ * does not preserve {@link Spliterator#SORTED} or {@link Spliterator#DISTINCT}, so they are not reported.
  *
  * @author scr
  */
 public class ToDoubleSpliterator<T> implements Spliterator.OfDouble {
+    private static final int MASKED_CHARACTERISTICS = Spliterator.SORTED | Spliterator.DISTINCT;
+
     private final Spliterator<T> backingSpliterator;
     private final ToDoubleFunction<T> toDoubleFunction;
+    private final Adapter adapter = new Adapter();
 
     public ToDoubleSpliterator(Spliterator<T> backingSpliterator, ToDoubleFunction<T> toDoubleFunction) {
         this.backingSpliterator = backingSpliterator;
@@ -34,13 +41,46 @@ public class ToDoubleSpliterator<T> implements Spliterator.OfDouble {
         return backingSpliterator.estimateSize();
     }
 
+    @Override
+    public long getExactSizeIfKnown() {
+        return backingSpliterator.getExactSizeIfKnown();
+    }
+
     @Override
     public int characteristics() {
-        return backingSpliterator.characteristics();
+        return backingSpliterator.characteristics() & ~MASKED_CHARACTERISTICS;
     }
 
     @Override
     public boolean tryAdvance(DoubleConsumer action) {
-        return backingSpliterator.tryAdvance(t -> action.accept(toDoubleFunction.applyAsDouble(t)));
+        adapter.action = action;
+        try {
+            return backingSpliterator.tryAdvance(adapter);
+        } finally {
+            adapter.action = null;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        adapter.action = action;
+        try {
+            backingSpliterator.forEachRemaining(adapter);
+        } finally {
+            adapter.action = null;
+        }
+    }
+
+    /**
+     * Applies the mapping function and passes the result to the current action.
+     */
+    private final class Adapter implements Consumer<T> {
+        @Nullable
+        private DoubleConsumer action;
+
+        @Override
+        public void accept(T t) {
+            action.accept(toDoubleFunction.applyAsDouble(t));
+        }
     }
 }
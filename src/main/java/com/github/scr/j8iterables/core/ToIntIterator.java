@@ -2,6 +2,7 @@ package com.github.scr.j8iterables.core;
 
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
 import java.util.function.ToIntFunction;
 
 /**
@@ -27,4 +28,10 @@ public class ToIntIterator<T> implements PrimitiveIterator.OfInt {
     public boolean hasNext() {
         return backingIterator.hasNext();
     }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        ToIntFunction<T> f = toIntFunction;
+        backingIterator.forEachRemaining(t -> action.accept(f.applyAsInt(t)));
+    }
 }
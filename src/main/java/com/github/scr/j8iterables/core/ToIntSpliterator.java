@@ -2,17 +2,24 @@ package com.github.scr.j8iterables.core;
 
 import javax.annotation.Nullable;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.ToIntFunction;
 
 /**
  * Map a {@link Spliterator} to {@link Spliterator.OfInt}.
+ * <p>
+ * Traversal passes a single reusable adapter to the backing spliterator rather than a new lambda per element. Mapping
+ * does not preserve {@link Spliterator#SORTED} or {@link Spliterator#DISTINCT}, so they are not reported.
  *
  * @author scr
  */
 public class ToIntSpliterator<T> implements Spliterator.OfInt {
+    private static final int MASKED_CHARACTERISTICS = Spliterator.SORTED | Spliterator.DISTINCT;
+
     private final Spliterator<T> backingSpliterator;
     private final ToIntFunction<T> toIntFunction;
+    private final Adapter adapter = new Adapter();
 
     public ToIntSpliterator(Spliterator<T> backingSpliterator, ToIntFunction<T> toIntFunction) {
         this.backingSpliterator = backingSpliterator;
@@ -34,13 +41,46 @@ public class ToIntSpliterator<T> implements Spliterator.OfInt {
         return backingSpliterator.estimateSize();
     }
 
+    @Override
+    public long getExactSizeIfKnown() {
+        return backingSpliterator.getExactSizeIfKnown();
+    }
+
     @Override
     public int characteristics() {
-        return backingSpliterator.characteristics();
+        return backingSpliterator.characteristics() & ~MASKED_CHARACTERISTICS;
     }
 
     @Override
     public boolean tryAdvance(IntConsumer action) {
-        return backingSpliterator.tryAdvance(t -> action.accept(toIntFunction.applyAsInt(t)));
+        adapter.action = action;
+        try {
+            return backingSpliterator.tryAdvance(adapter);
+        } finally {
+            adapter.action = null;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        adapter.action = action;
+        try {
+            backingSpliterator.forEachRemaining(adapter);
+        } finally {
+            adapter.action = null;
+        }
+    }
+
+    /**
+     * Applies the mapping function and passes the result to the current action.
+     */
+    private final class Adapter implements Consumer<T> {
+        @Nullable
+        private IntConsumer action;
+
+        @Override
+        public void accept(T t) {
+            action.accept(toIntFunction.applyAsInt(t));
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.github.scr.j8iterables.core;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 import java.util.PrimitiveIterator.OfLong;
+import java.util.function.LongConsumer;
 import java.util.function.ToLongFunction;
 
 /**
@@ -28,4 +29,10 @@ public class ToLongIterator<T> implements OfLong {
     public boolean hasNext() {
         return backingIterator.hasNext();
     }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        ToLongFunction<T> f = toLongFunction;
+        backingIterator.forEachRemaining(t -> action.accept(f.applyAsLong(t)));
+    }
 }
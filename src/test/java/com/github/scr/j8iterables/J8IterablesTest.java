@@ -2,14 +2,20 @@ package com.github.scr.j8iterables;
 
 import com.github.scr.j8iterables.core.Ends;
 import com.github.scr.j8iterables.core.J8PrimitiveIterable;
+import com.github.scr.j8iterables.core.MemoizedReverseIterable;
+import com.github.scr.j8iterables.core.SupplierIterable;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.tuple.Pair;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,6 +41,54 @@ public class J8IterablesTest {
         assertThat(results.get("bar"), is(5));
     }
 
+    @Test
+    public void testCollectSkipsIdentityFinisher() throws Exception {
+        Collector<Integer, List<Integer>, List<Integer>> collector = Collector.of(
+                ArrayList::new, List::add, (l, r) -> {
+                    l.addAll(r);
+                    return l;
+                }, l -> {
+                    throw new AssertionError("finisher called");
+                }, Collector.Characteristics.IDENTITY_FINISH);
+        assertThat(J8Iterables.collect(Arrays.asList(1, 2, 3), collector), is(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testParallelCollectConcurrent() throws Exception {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            input.add(i);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ConcurrentMap<Integer, Long> results = J8Iterables.collect(
+                    J8Iterables.fromSupplier(input::iterator),
+                    Collectors.groupingByConcurrent(i -> i % 3, Collectors.counting()),
+                    pool);
+            assertThat(results.get(0), is(3334L));
+            assertThat(results.get(1), is(3333L));
+            assertThat(results.get(2), is(3333L));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCollectKeepsEncounterOrder() throws Exception {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            input.add(i);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(J8Iterables.collect(input, Collectors.toList(), pool), is(input));
+            assertThat(J8Iterables.collect(J8Iterables.fromSupplier(input::iterator), Collectors.toList(), pool),
+                    is(input));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private static void accumulate(HashMap<String, Integer> hashMap, Pair<String, Integer> value) {
         hashMap.compute(value.getKey(), (k, v) -> value.getValue() + ((v == null) ? 0 : v));
     }
@@ -66,6 +120,50 @@ public class J8IterablesTest {
         assertThat(results.get("bar"), is(20));
     }
 
+    @Test
+    public void testParallelCombiningCollect() throws Exception {
+        Collection<Pair<String, Integer>> collection = Arrays.asList(
+                Pair.of("foo", 1),
+                Pair.of("foo", 2),
+                Pair.of("bar", 5));
+        Collection<Pair<String, Integer>> collection2 = Arrays.asList(
+                Pair.of("foo", 7),
+                Pair.of("bar", 10),
+                Pair.of("bar", 5));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Map<String, Integer> results = J8Iterables.parallelCollect(
+                    Arrays.asList(collection, collection2, collection),
+                    HashMap::new,
+                    J8IterablesTest::accumulate,
+                    J8IterablesTest::combine,
+                    pool);
+
+            assertThat(results.get("foo"), is(13));
+            assertThat(results.get("bar"), is(25));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelCollectKeepsPartitionOrder() throws Exception {
+        List<Iterable<Integer>> partitions = new ArrayList<>();
+        for (int i = 0; i < 64; ++i) {
+            partitions.add(Arrays.asList(2 * i, 2 * i + 1));
+        }
+        List<Integer> result = J8Iterables.parallelCollect(partitions, Collectors.toList());
+        assertThat(result, is(J8Iterables.toStream(Iterables.concat(partitions)).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void testParallelCollectEmpty() throws Exception {
+        List<Iterable<Integer>> partitions = Collections.emptyList();
+        assertThat(J8Iterables.parallelCollect(partitions, Collectors.toList()), is(Collections.emptyList()));
+        assertThat(J8Iterables.parallelCollect(partitions, ArrayList::new, ArrayList::add, ArrayList::addAll),
+                is(Collections.emptyList()));
+    }
+
     @Test
     public void testReductionSumOptional() throws Exception {
         assertThat(J8Iterables.reduce(Arrays.asList(1, 2, 3), Integer::sum), is(Optional.of(6)));
@@ -90,6 +188,58 @@ public class J8IterablesTest {
         assertThat(result, is(21));
     }
 
+    @Test
+    public void testParallelReductionIterables() throws Exception {
+        Collection<Integer> collection = Arrays.asList(1, 2, 3);
+        Collection<Integer> collection2 = Arrays.asList(4, 5, 6);
+
+        int result = J8Iterables.parallelReduce(
+                Arrays.asList(collection, collection2),
+                0,
+                Integer::sum,
+                Integer::sum);
+
+        assertThat(result, is(21));
+    }
+
+    @Test
+    public void testParallelReductionOrderedIsDeterministic() throws Exception {
+        List<Iterable<Integer>> partitions = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            partitions.add(Arrays.asList(i % 10, (i + 1) % 10));
+            expected.append(i % 10).append((i + 1) % 10);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            String result = J8Iterables.parallelReduce(partitions, "", (s, i) -> s + i, String::concat, true, pool);
+            assertThat(result, is(expected.toString()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelReductionUnordered() throws Exception {
+        List<Iterable<Integer>> partitions = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            partitions.add(Arrays.asList(i, i));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long result = J8Iterables.parallelReduce(partitions, 0L, (sum, i) -> sum + i, Long::sum, false, pool);
+            assertThat(result, is(9900L));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelReductionEmpty() throws Exception {
+        List<Iterable<Integer>> partitions = Collections.emptyList();
+        assertThat(J8Iterables.parallelReduce(partitions, 7, Integer::sum, Integer::sum), is(7));
+    }
+
     @Test
     public void testReductionMax() throws Exception {
         assertThat(J8Iterables.reduce(Arrays.asList(1, 2, 3), 0, Integer::max), is(3));
@@ -149,6 +299,83 @@ public class J8IterablesTest {
         assertThat(atomicInteger.get(), not(0));
     }
 
+    @Test
+    public void testSupplierIterableToStreamBindsLate() throws Exception {
+        AtomicInteger iteratorCalls = new AtomicInteger(0);
+        FluentIterable<Integer> iterable = J8Iterables.fromSupplier(() -> {
+            iteratorCalls.incrementAndGet();
+            return Arrays.asList(1, 2, 3).iterator();
+        }, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        Stream<Integer> stream = J8Iterables.toStream(iterable).map(i -> i * 2);
+        assertThat(iteratorCalls.get(), is(0));
+        assertThat(stream.collect(Collectors.toList()), is(Arrays.asList(2, 4, 6)));
+        assertThat(iteratorCalls.get(), is(1));
+    }
+
+    @Test
+    public void testSupplierIterableCharacteristics() throws Exception {
+        Spliterator<Integer> spliterator = J8Iterables.fromSupplier(() -> Arrays.asList(1, 2, 3).iterator(),
+                Spliterator.ORDERED | Spliterator.SIZED).spliterator();
+        assertThat("not ordered", spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertThat("sized without a size", !spliterator.hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    public void testSupplierIterableKnownSize() throws Exception {
+        List<Integer> input = Arrays.asList(1, 2, 3, 4, 5);
+        AtomicInteger iteratorCalls = new AtomicInteger();
+        SupplierIterable<Integer> iterable = J8Iterables.fromSupplier(() -> {
+            iteratorCalls.incrementAndGet();
+            return input.iterator();
+        }, input::size, Spliterator.ORDERED);
+        assertThat(iterable.sizeIfKnown(), is(5L));
+        assertThat(J8Iterables.size(iterable), is(5L));
+        assertThat(J8Iterables.isEmpty(iterable), is(false));
+        assertThat(iteratorCalls.get(), is(0));
+        assertThat(J8Iterables.toArray(iterable, Integer.class), is(input.toArray(new Integer[0])));
+        Spliterator<Integer> spliterator = J8Iterables.toStream(iterable).spliterator();
+        assertThat("not sized", spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertThat(spliterator.getExactSizeIfKnown(), is(5L));
+        assertThat(J8Iterables.toStream(iterable).parallel().mapToInt(i -> i).sum(), is(15));
+        assertThat(J8Iterables.toStream(iterable).count(), is(5L));
+
+        FluentIterable<Integer> unknown = J8Iterables.fromSupplier(input::iterator);
+        assertThat(J8Iterables.sizeIfKnown(unknown), is(-1L));
+        assertThat(J8Iterables.size(unknown), is(5L));
+        assertThat(J8Iterables.isEmpty(J8Iterables.fromSupplier(Collections::emptyIterator)), is(true));
+    }
+
+    @Test
+    public void testSizeIfKnownFromSizedSpliterator() throws Exception {
+        AtomicInteger iteratorCalls = new AtomicInteger();
+        List<Integer> list = new ArrayList<Integer>(Arrays.asList(1, 2, 3)) {
+            @Override
+            public Iterator<Integer> iterator() {
+                iteratorCalls.incrementAndGet();
+                return super.iterator();
+            }
+
+            @Override
+            public ListIterator<Integer> listIterator(int index) {
+                iteratorCalls.incrementAndGet();
+                return super.listIterator(index);
+            }
+        };
+        FluentIterable<Integer> reversed = J8Iterables.reverse(list);
+        assertThat(J8Iterables.sizeIfKnown(reversed), is(3L));
+        assertThat(J8Iterables.size(reversed), is(3L));
+        assertThat(J8Iterables.isEmpty(reversed), is(false));
+        assertThat(iteratorCalls.get(), is(0));
+        assertThat(J8Iterables.toArray(reversed, Integer.class), is(new Integer[]{3, 2, 1}));
+        assertThat(iteratorCalls.get(), is(1));
+    }
+
+    @Test
+    public void testStreamIterableToStreamKeepsCharacteristics() throws Exception {
+        Stream<Integer> stream = J8Iterables.toStream(J8Iterables.fromStream(Arrays.asList(1, 2, 3).stream()));
+        assertThat("not sized", stream.spliterator().hasCharacteristics(Spliterator.SIZED));
+    }
+
     @Test
     public void testFluentIterableFromStream() throws Exception {
         Stream<Integer> stream = Stream.of(1, 2, 3);
@@ -255,11 +482,79 @@ public class J8IterablesTest {
         assertThat(J8Iterables.reverse(new TreeSet<>(Arrays.asList(2, 1, 3))).toList(), is(Arrays.asList(3, 2, 1)));
     }
 
+    @Test
+    public void testReverseListSpliterator() throws Exception {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        Spliterator<Integer> spliterator = J8Iterables.reverse(list).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+        assertThat(spliterator.getExactSizeIfKnown(), is(1000L));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(), is(500L));
+        assertThat(prefix.tryAdvance(i -> assertThat(i, is(999))), is(true));
+        assertThat(spliterator.tryAdvance(i -> assertThat(i, is(499))), is(true));
+
+        List<Integer> reversed = J8Iterables.toStream(J8Iterables.reverse(list)).parallel()
+                .collect(Collectors.toList());
+        assertThat(reversed, is(Lists.reverse(list)));
+    }
+
+    @Test
+    public void testReverseNavigableSetParallel() throws Exception {
+        TreeSet<Integer> set = new TreeSet<>();
+        for (int i = 0; i < 1000; ++i) {
+            set.add(i);
+        }
+        assertThat(J8Iterables.toStream(J8Iterables.reverse(set)).parallel().collect(Collectors.toList()),
+                is(new ArrayList<>(set.descendingSet())));
+    }
+
+    @Test
+    public void testReverseNavigableSetCharacteristics() throws Exception {
+        TreeSet<Integer> set = new TreeSet<>(Arrays.asList(2, 1, 3));
+        FluentIterable<Integer> reversed = J8Iterables.reverse(set);
+        int characteristics = ((SupplierIterable<Integer>) reversed).characteristics();
+        assertThat(characteristics, is(reversed.spliterator().characteristics()));
+        assertThat("not sized", (characteristics & Spliterator.SIZED) != 0);
+        assertThat(J8Iterables.sizeIfKnown(reversed), is(3L));
+    }
+
     @Test
     public void testReverseRegularIterable() throws Exception {
         assertThat(J8Iterables.reverse(J8Iterables.of(1, 2, 3)).toList(), is(Arrays.asList(3, 2, 1)));
     }
 
+    @Test
+    public void testReverseMemoized() throws Exception {
+        AtomicInteger iterations = new AtomicInteger();
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        Iterable<Integer> source = () -> {
+            iterations.incrementAndGet();
+            return list.iterator();
+        };
+        AtomicInteger version = new AtomicInteger();
+        MemoizedReverseIterable<Integer> reversed = J8Iterables.reverseMemoized(source, version::get);
+        assertThat(reversed.isMaterialized(), is(false));
+        assertThat(reversed.toList(), is(Arrays.asList(3, 2, 1)));
+        assertThat(reversed.toList(), is(Arrays.asList(3, 2, 1)));
+        assertThat(iterations.get(), is(1));
+        assertThat(reversed.isMaterialized(), is(true));
+
+        // Unchanged version keeps the stale copy.
+        list.add(4);
+        assertThat(reversed.toList(), is(Arrays.asList(3, 2, 1)));
+        version.incrementAndGet();
+        assertThat(reversed.toList(), is(Arrays.asList(4, 3, 2, 1)));
+        assertThat(iterations.get(), is(2));
+
+        reversed.invalidate();
+        assertThat(reversed.isMaterialized(), is(false));
+        assertThat(J8Iterables.toStream(reversed).count(), is(4L));
+        assertThat(iterations.get(), is(3));
+    }
+
     @Test
     public void testMapToDouble() throws Exception {
         J8PrimitiveIterable.OfDouble doubleIterable =
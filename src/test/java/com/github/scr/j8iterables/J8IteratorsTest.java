@@ -25,6 +25,17 @@ public class J8IteratorsTest {
         assertThat(stream.mapToInt(a -> a).sum(), is(6));
     }
 
+    @Test
+    public void testParallelStreamFromIterator() throws Exception {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            input.add(i);
+        }
+        Stream<Integer> stream = J8Iterators.toStream(input.iterator(), input.size(), true);
+        assertThat(stream.isParallel(), is(true));
+        assertThat(stream.mapToLong(a -> a).sum(), is(49995000L));
+    }
+
     @Test
     public void testCoverageTrickForUtilityClass() throws Exception {
         assertThat(new J8Iterators(), notNullValue());
@@ -0,0 +1,151 @@
+package com.github.scr.j8iterables;
+
+import com.github.scr.j8iterables.core.J8PrimitiveIterable;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+@Test
+public class J8PrimitiveIterablesTest {
+    private static final J8PrimitiveIterable.OfInt INTS =
+            J8Iterables.mapToInt(Arrays.asList(3, 1, 2), Integer::intValue);
+    private static final J8PrimitiveIterable.OfLong LONGS =
+            J8Iterables.mapToLong(Arrays.asList(3, 1, 2), Integer::longValue);
+    private static final J8PrimitiveIterable.OfDouble DOUBLES =
+            J8Iterables.mapToDouble(Arrays.asList(3, 1, 2), Integer::doubleValue);
+    private static final J8PrimitiveIterable.OfInt NO_INTS =
+            J8Iterables.mapToInt(Collections.<Integer>emptyList(), Integer::intValue);
+
+    @Test
+    public void testCoverageTrickForUtilityClass() throws Exception {
+        assertThat(new J8PrimitiveIterables(), notNullValue());
+    }
+
+    @Test
+    public void testOf() throws Exception {
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.of(1, 2, 3)), is(6));
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.of(1L, 2L, 3L)), is(6L));
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.of(1d, 2d, 3d)), is(6d));
+        assertThat(J8PrimitiveIterables.count(J8PrimitiveIterables.of(1L, 2L, 3L).stride(2)), is(2L));
+    }
+
+    @Test
+    public void testBuilders() throws Exception {
+        assertThat(J8PrimitiveIterables.intBuilder().add(1).add(2).build().toArray(), is(new int[]{1, 2}));
+        assertThat(J8PrimitiveIterables.longBuilder().addAll(1, 2).build().toArray(), is(new long[]{1, 2}));
+        assertThat(J8PrimitiveIterables.doubleBuilder().add(1).build().toArray(), is(new double[]{1}));
+    }
+
+    @Test
+    public void testMapFile() throws Exception {
+        Path path = Files.createTempFile("J8PrimitiveIterablesTest", ".bin");
+        try {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(3 * Long.BYTES + 1).order(ByteOrder.LITTLE_ENDIAN);
+            byteBuffer.putLong(1).putLong(2).putLong(3).put((byte) 4);
+            Files.write(path, byteBuffer.array());
+            assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.mapLongs(path, ByteOrder.LITTLE_ENDIAN)), is(6L));
+            assertThat(J8PrimitiveIterables.count(J8PrimitiveIterables.mapInts(path, ByteOrder.LITTLE_ENDIAN)),
+                    is(6L));
+            assertThat(J8PrimitiveIterables.count(J8PrimitiveIterables.mapDoubles(path, ByteOrder.BIG_ENDIAN)),
+                    is(3L));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testWrap() throws Exception {
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.wrap(IntBuffer.wrap(new int[]{1, 2}))), is(3));
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.wrap(LongBuffer.wrap(new long[]{1, 2}))), is(3L));
+        assertThat(J8PrimitiveIterables.sum(J8PrimitiveIterables.wrap(DoubleBuffer.wrap(new double[]{1, 2}))),
+                is(3d));
+    }
+
+    @Test
+    public void testSum() throws Exception {
+        assertThat(J8PrimitiveIterables.sum(INTS), is(6));
+        assertThat(J8PrimitiveIterables.sum(LONGS), is(6L));
+        assertThat(J8PrimitiveIterables.sum(DOUBLES), is(6d));
+        assertThat(J8PrimitiveIterables.sum(NO_INTS), is(0));
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        assertThat(J8PrimitiveIterables.count(INTS), is(3L));
+        assertThat(J8PrimitiveIterables.count(LONGS), is(3L));
+        assertThat(J8PrimitiveIterables.count(DOUBLES), is(3L));
+        assertThat(J8PrimitiveIterables.count(NO_INTS), is(0L));
+    }
+
+    @Test
+    public void testMinMax() throws Exception {
+        assertThat(J8PrimitiveIterables.min(INTS), is(OptionalInt.of(1)));
+        assertThat(J8PrimitiveIterables.max(INTS), is(OptionalInt.of(3)));
+        assertThat(J8PrimitiveIterables.min(LONGS), is(OptionalLong.of(1)));
+        assertThat(J8PrimitiveIterables.max(LONGS), is(OptionalLong.of(3)));
+        assertThat(J8PrimitiveIterables.min(DOUBLES), is(OptionalDouble.of(1)));
+        assertThat(J8PrimitiveIterables.max(DOUBLES), is(OptionalDouble.of(3)));
+        assertThat(J8PrimitiveIterables.min(NO_INTS), is(OptionalInt.empty()));
+    }
+
+    @Test
+    public void testAverage() throws Exception {
+        assertThat(J8PrimitiveIterables.average(INTS), is(OptionalDouble.of(2)));
+        assertThat(J8PrimitiveIterables.average(LONGS), is(OptionalDouble.of(2)));
+        assertThat(J8PrimitiveIterables.average(DOUBLES), is(OptionalDouble.of(2)));
+        assertThat(J8PrimitiveIterables.average(NO_INTS), is(OptionalDouble.empty()));
+    }
+
+    @Test
+    public void testSummaryStatistics() throws Exception {
+        IntSummaryStatistics intStatistics = J8PrimitiveIterables.summaryStatistics(INTS);
+        assertThat(intStatistics.getCount(), is(3L));
+        assertThat(intStatistics.getSum(), is(6L));
+        LongSummaryStatistics longStatistics = J8PrimitiveIterables.summaryStatistics(LONGS);
+        assertThat(longStatistics.getMax(), is(3L));
+        DoubleSummaryStatistics doubleStatistics = J8PrimitiveIterables.summaryStatistics(DOUBLES);
+        assertThat(doubleStatistics.getMin(), is(1d));
+    }
+
+    @Test
+    public void testReduce() throws Exception {
+        assertThat(J8PrimitiveIterables.reduce(INTS, 1, (a, b) -> a * b), is(6));
+        assertThat(J8PrimitiveIterables.reduce(LONGS, 1, (a, b) -> a * b), is(6L));
+        assertThat(J8PrimitiveIterables.reduce(DOUBLES, 1, (a, b) -> a * b), is(6d));
+        assertThat(J8PrimitiveIterables.reduce(INTS, (a, b) -> a * b), is(OptionalInt.of(6)));
+        assertThat(J8PrimitiveIterables.reduce(NO_INTS, (a, b) -> a * b), is(OptionalInt.empty()));
+    }
+
+    @Test
+    public void testCollect() throws Exception {
+        List<Integer> ints = J8PrimitiveIterables.collect(INTS, ArrayList::new, List::add);
+        assertThat(ints, is(Arrays.asList(3, 1, 2)));
+        StringBuilder longs = J8PrimitiveIterables.collect(LONGS, StringBuilder::new, StringBuilder::append);
+        assertThat(longs.toString(), is("312"));
+        List<Double> doubles = J8PrimitiveIterables.collect(DOUBLES, ArrayList::new, List::add);
+        assertThat(doubles, is(Arrays.asList(3d, 1d, 2d)));
+    }
+}
@@ -5,6 +5,7 @@ import org.testng.annotations.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Spliterator;
+import java.util.TreeSet;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -100,4 +101,25 @@ public class J8SpliteratorsTest {
         Spliterator.OfLong LongSpliterator2 = LongSpliterator.trySplit();
         assertThat(LongSpliterator2, nullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMappedCharacteristics() throws Exception {
+        Spliterator.OfInt intSpliterator =
+                J8Spliterators.mapToInt(new TreeSet<>(Arrays.asList("a", "bb", "cc")).spliterator(), String::length);
+        assertThat(intSpliterator.hasCharacteristics(Spliterator.SIZED), is(true));
+        assertThat(intSpliterator.hasCharacteristics(Spliterator.SORTED), is(false));
+        assertThat(intSpliterator.hasCharacteristics(Spliterator.DISTINCT), is(false));
+        assertThat(intSpliterator.getExactSizeIfKnown(), is(3L));
+    }
+
+    @Test
+    public void testMappedTraversal() throws Exception {
+        Spliterator.OfLong longSpliterator =
+                J8Spliterators.mapToLong(Arrays.asList(1d, 2d, 3d, 4d).spliterator(), Double::longValue);
+        StringBuilder stringBuilder = new StringBuilder();
+        assertThat(longSpliterator.tryAdvance((long l) -> stringBuilder.append(l)), is(true));
+        longSpliterator.forEachRemaining((long l) -> stringBuilder.append(l));
+        assertThat(longSpliterator.tryAdvance((long l) -> stringBuilder.append(l)), is(false));
+        assertThat(stringBuilder.toString(), is("1234"));
+    }
+}
@@ -8,7 +8,14 @@ import org.testng.annotations.Test;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -54,4 +61,103 @@ public class J8StreamsTest {
         assertThat(testStream.count(), is(0L));
         Assert.fail("Exception should be thrown");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCloseOnShortCircuit() throws Exception {
+        TestResource testResource = Mockito.spy(TestResource.class);
+        try (Stream<Integer> testStream = J8Streams.unfoldResource(
+                () -> testResource, Iterable::spliterator, TestResource::close, 0, false)) {
+            assertThat(testStream.findFirst().get(), is(1));
+            Mockito.verify(testResource, Mockito.never()).close();
+        }
+        Mockito.verify(testResource).close();
+    }
+
+    @Test
+    public void testCloseOnceWhenParallelSplitsComplete() throws Exception {
+        AtomicInteger closes = new AtomicInteger();
+        try (Stream<Integer> testStream = J8Streams.unfoldResource(
+                () -> closes, r -> IntStream.range(0, 10000).boxed().spliterator(), AtomicInteger::incrementAndGet,
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED, true)) {
+            assertThat(testStream.mapToLong(i -> i).sum(), is(49995000L));
+            assertThat(closes.get(), is(1));
+        }
+        assertThat(closes.get(), is(1));
+    }
+
+    @Test
+    public void testUnfoldPartitionedResourceParallel() throws Exception {
+        List<int[]> ranges = IntStream.range(0, 16).mapToObj(i -> new int[]{i * 1000, (i + 1) * 1000})
+                .collect(Collectors.toList());
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        try (Stream<Integer> stream = J8Streams.unfoldPartitionedResource(
+                () -> ranges,
+                range -> {
+                    opened.incrementAndGet();
+                    return new AtomicBoolean();
+                },
+                resource -> IntStream.range(0, 1000).boxed().spliterator(),
+                resource -> {
+                    assertThat("closed twice", !resource.getAndSet(true));
+                    closed.incrementAndGet();
+                },
+                Spliterator.ORDERED, true)) {
+            assertThat(stream.mapToLong(i -> i).sum(), is(16L * 499500));
+        }
+        assertThat(opened.get(), is(16));
+        assertThat(closed.get(), is(16));
+    }
+
+    @Test
+    public void testUnfoldPartitionedResourceKeepsOrder() throws Exception {
+        List<Integer> expected = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        AtomicInteger open = new AtomicInteger();
+        try (Stream<Integer> stream = J8Streams.unfoldPartitionedResource(
+                () -> IntStream.range(0, 10).boxed().collect(Collectors.toList()),
+                partition -> {
+                    open.incrementAndGet();
+                    return partition;
+                },
+                partition -> IntStream.range(partition * 10, partition * 10 + 10).boxed().spliterator(),
+                partition -> open.decrementAndGet(),
+                Spliterator.ORDERED, true)) {
+            assertThat(stream.collect(Collectors.toList()), is(expected));
+        }
+        assertThat(open.get(), is(0));
+    }
+
+    @Test
+    public void testUnfoldPartitionedCloseableResource() throws Exception {
+        AtomicInteger open = new AtomicInteger();
+        try (Stream<Integer> stream = J8Streams.unfoldPartitionedResource(
+                () -> Arrays.asList(1, 2, 3),
+                partition -> {
+                    open.incrementAndGet();
+                    return (Closeable) open::decrementAndGet;
+                },
+                resource -> Spliterators.<Integer>emptySpliterator(),
+                0, true)) {
+            assertThat(stream.count(), is(0L));
+        }
+        assertThat(open.get(), is(0));
+    }
+
+    @Test
+    public void testUnfoldPartitionedResourceClosesOnShortCircuit() throws Exception {
+        AtomicInteger open = new AtomicInteger();
+        Stream<Integer> stream = J8Streams.unfoldPartitionedResource(
+                () -> Arrays.asList(0, 1, 2),
+                partition -> {
+                    open.incrementAndGet();
+                    return partition;
+                },
+                partition -> IntStream.range(partition * 10, partition * 10 + 10).boxed().spliterator(),
+                partition -> open.decrementAndGet(),
+                Spliterator.ORDERED, false);
+        assertThat(stream.filter(i -> i == 12).findFirst().get(), is(12));
+        assertThat(open.get(), is(1));
+        stream.close();
+        assertThat(open.get(), is(0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class ArrayIterableTest {
+    private static final Integer[] ARRAY = IntStream.range(0, 100).boxed().toArray(Integer[]::new);
+
+    @Test
+    public void testViews() throws Exception {
+        ArrayIterable<Integer> iterable = J8Iterables.ofArray(ARRAY);
+        assertThat(iterable.length(), is(100));
+        assertThat(iterable.elementAt(42), is(42));
+        assertThat(iterable.slice(10, 13).toList(), is(Arrays.asList(10, 11, 12)));
+        assertThat(iterable.skipView(97).toList(), is(Arrays.asList(97, 98, 99)));
+        assertThat(iterable.limitView(3).toList(), is(Arrays.asList(0, 1, 2)));
+        assertThat(iterable.skipView(200).isEmpty(), is(true));
+        ArrayIterable<Integer> strided = iterable.slice(1, 100).stride(10);
+        assertThat(strided.toList(), is(Arrays.asList(1, 11, 21, 31, 41, 51, 61, 71, 81, 91)));
+        assertThat(strided.stride(3).toList(), is(Arrays.asList(1, 31, 61, 91)));
+        assertThat(strided.slice(2, 4).elementAt(1), is(31));
+        assertThat(strided.asList().subList(8, 10), is(Arrays.asList(81, 91)));
+        assertThat(J8Iterables.reverse(strided.limitView(3)).toList(), is(Arrays.asList(21, 11, 1)));
+        assertThat(J8Iterables.ends(strided).get(), is(Ends.of(1, 91)));
+        assertThat(J8Iterables.ofArray(new Integer[0]).limitView(1).toList(), is(Collections.emptyList()));
+        assertThat(J8Iterables.of(1, 2, 3) instanceof ArrayIterable, is(true));
+    }
+
+    @Test
+    public void testSpliterator() throws Exception {
+        ArrayIterable<Integer> iterable = J8Iterables.ofArray(ARRAY).stride(2);
+        Spliterator<Integer> spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED |
+                Spliterator.IMMUTABLE), is(true));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(), is(25L));
+        assertThat(spliterator.getExactSizeIfKnown(), is(25L));
+        assertThat(J8Iterables.sizeIfKnown(iterable), is(50L));
+        List<Integer> evens = IntStream.range(0, 50).mapToObj(i -> i * 2).collect(Collectors.toList());
+        assertThat(J8Iterables.toStream(iterable).parallel().collect(Collectors.toList()), is(evens));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testElementAtOutOfBounds() throws Exception {
+        J8Iterables.ofArray(ARRAY).slice(0, 5).elementAt(5);
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class AsyncPeekerTest {
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFlushOnExhaustion() throws Exception {
+        List<Integer> peeked = Collections.synchronizedList(new ArrayList<>());
+        AsyncPeeker<Integer> peeker = AsyncPeeker.of(peeked::add, executor, 1000, AsyncPeeker.OverflowPolicy.BLOCK);
+        List<Integer> input = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        assertThat(J8Iterables.peekAsync(input, peeker).toList(), is(input));
+        // 100 is not a multiple of the batch size; the remainder is flushed when the iterator is exhausted.
+        assertThat(peeker.awaitFlushed(10, TimeUnit.SECONDS), is(true));
+        assertThat(peeked, is(input));
+        assertThat(peeker.getDelivered(), is(100L));
+        assertThat(peeker.getDropped(), is(0L));
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        AsyncPeeker<String> peeker = new AsyncPeeker<>(
+                batch -> batches.add(new ArrayList<>(batch)), executor, 4, 2, AsyncPeeker.OverflowPolicy.BLOCK);
+        peeker.accept("a");
+        assertThat(peeker.getQueued(), is(1));
+        peeker.accept(null);
+        assertThat(peeker.awaitFlushed(10, TimeUnit.SECONDS), is(true));
+        assertThat(batches, is(Collections.singletonList(Arrays.asList("a", null))));
+    }
+
+    @Test
+    public void testDropPolicies() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Integer> newest = Collections.synchronizedList(new ArrayList<>());
+        AsyncPeeker<Integer> dropNewest = new AsyncPeeker<>(
+                newest::addAll, executor, 2, 2, AsyncPeeker.OverflowPolicy.DROP_NEWEST);
+        List<Integer> oldest = Collections.synchronizedList(new ArrayList<>());
+        AsyncPeeker<Integer> dropOldest = new AsyncPeeker<>(
+                oldest::addAll, executor, 2, 2, AsyncPeeker.OverflowPolicy.DROP_OLDEST);
+        AsyncPeeker<Integer> sample = new AsyncPeeker<>(
+                b -> {
+                }, executor, 10, 10, AsyncPeeker.OverflowPolicy.SAMPLE);
+        for (int i = 0; i < 5; ++i) {
+            dropNewest.accept(i);
+            dropOldest.accept(i);
+        }
+        for (int i = 0; i < 1000; ++i) {
+            sample.accept(i);
+        }
+        blocked.countDown();
+        assertThat(dropNewest.awaitFlushed(10, TimeUnit.SECONDS), is(true));
+        assertThat(dropOldest.awaitFlushed(10, TimeUnit.SECONDS), is(true));
+        assertThat(newest, is(Arrays.asList(0, 1)));
+        assertThat(dropNewest.getDropped(), is(3L));
+        assertThat(oldest, is(Arrays.asList(3, 4)));
+        assertThat(dropOldest.getDropped(), is(3L));
+        assertThat(sample.getDropped() >= 990, is(true));
+    }
+
+    @Test
+    public void testFailedBatch() throws Exception {
+        AsyncPeeker<Integer> peeker = new AsyncPeeker<>(batch -> {
+            throw new IllegalStateException();
+        }, executor, 2, 1, AsyncPeeker.OverflowPolicy.BLOCK);
+        peeker.accept(1);
+        peeker.accept(2);
+        assertThat(peeker.awaitFlushed(10, TimeUnit.SECONDS), is(true));
+        assertThat(peeker.getFailed(), is(2L));
+        assertThat(peeker.getDelivered(), is(0L));
+        assertThat(peeker.getLastFailure() instanceof IllegalStateException, is(true));
+    }
+
+    @Test
+    public void testFlushWhileDrainFinishing() throws Exception {
+        List<Integer> peeked = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch tailPeeked = new CountDownLatch(1);
+        AtomicReference<AsyncPeeker<Integer>> peekerRef = new AtomicReference<>();
+        AtomicBoolean injected = new AtomicBoolean();
+        // Queue a partial batch and flush it after the drain's last drainTo, but before the drain has finished.
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(4) {
+            @Override
+            public int drainTo(Collection<? super Object> c, int maxElements) {
+                int drained = super.drainTo(c, maxElements);
+                if (drained == 0 && injected.compareAndSet(false, true)) {
+                    peekerRef.get().accept(3);
+                    peekerRef.get().flush();
+                }
+                return drained;
+            }
+        };
+        AsyncPeeker<Integer> peeker = new AsyncPeeker<>(batch -> {
+            peeked.addAll(batch);
+            if (batch.contains(3)) {
+                tailPeeked.countDown();
+            }
+        }, executor, 4, 2, AsyncPeeker.OverflowPolicy.BLOCK, capacity -> queue);
+        peekerRef.set(peeker);
+        peeker.accept(1);
+        peeker.accept(2);
+        // Not awaitFlushed, which would flush the tail itself.
+        assertThat(tailPeeked.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(peeked, is(Arrays.asList(1, 2, 3)));
+        assertThat(injected.get(), is(true));
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Streams;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class ChannelBlockSpliteratorTest {
+    private static final byte[] BYTES = new byte[100_003];
+
+    static {
+        new Random(42).nextBytes(BYTES);
+    }
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void testChannelBlocks() throws Exception {
+        ChannelBlockSpliterator.Stats stats = new ChannelBlockSpliterator.Stats();
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<ByteBuffer> blocks = J8Streams.channelBlocks(() -> new ClosingChannel(closed), executor, 4096, 3,
+                stats)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            blocks.forEach(block -> {
+                assertThat(block.isReadOnly(), is(true));
+                byte[] bytes = new byte[block.remaining()];
+                block.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            });
+            assertThat(out.toByteArray(), is(BYTES));
+        }
+        assertThat(closed.get(), is(true));
+        assertThat(stats.getBlocks(), is(25L));
+        assertThat(stats.getBytes(), is((long) BYTES.length));
+    }
+
+    @Test
+    public void testStalls() throws Exception {
+        // Reads run only when the test says so, so the first block cannot be ready when the caller asks for it.
+        BlockingQueue<Runnable> reads = new LinkedBlockingQueue<>();
+        ChannelBlockSpliterator.Stats stats = new ChannelBlockSpliterator.Stats();
+        ChannelBlockSpliterator spliterator = ChannelBlockSpliterator.of(
+                Channels.newChannel(new ByteArrayInputStream(BYTES)), reads::add, 4096, 1, stats);
+        Thread caller = Thread.currentThread();
+        Future<?> reader = executor.submit(() -> {
+            // Wait until the caller is blocked waiting for the read, then let it run.
+            while (stats.getStalls() == 0 || caller.getState() != Thread.State.WAITING) {
+                Thread.yield();
+            }
+            Thread.sleep(1);
+            reads.take().run();
+            return null;
+        });
+        List<Integer> sizes = new ArrayList<>();
+        assertThat(spliterator.tryAdvance(block -> sizes.add(block.remaining())), is(true));
+        reader.get(5, TimeUnit.SECONDS);
+        spliterator.close();
+        assertThat(sizes, is(Collections.singletonList(4096)));
+        assertThat(stats.getStalls(), is(1L));
+        assertThat(stats.getStallNanos() > 0, is(true));
+    }
+
+    @Test
+    public void testFileShortReads() throws Exception {
+        ShortReadFileChannel channel = new ShortReadFileChannel(1000);
+        ChannelBlockSpliterator.Stats stats = new ChannelBlockSpliterator.Stats();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ChannelBlockSpliterator spliterator = ChannelBlockSpliterator.of(channel, 0, 4096, 2, stats)) {
+            spliterator.forEachRemaining(block -> {
+                assertThat(block.remaining() == 4096 || out.size() + block.remaining() == BYTES.length, is(true));
+                byte[] bytes = new byte[block.remaining()];
+                block.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            });
+        }
+        assertThat(out.toByteArray(), is(BYTES));
+        assertThat(stats.getBlocks(), is(25L));
+        // Each of the 24 full blocks takes five reads, of 1000, 1000, 1000, 1000 and 96 bytes; the last block takes
+        // reads of 1000 and 699 bytes and one that finds the end; the two blocks read ahead find only the end.
+        assertThat(channel.reads.get(), is(24 * 5 + 3 + 2));
+    }
+
+    @Test
+    public void testFileBlocks() throws Exception {
+        Path file = Files.createTempFile("ChannelBlockSpliteratorTest", ".bin");
+        try {
+            Files.write(file, BYTES);
+            ChannelBlockSpliterator.Stats stats = new ChannelBlockSpliterator.Stats();
+            try (Stream<ByteBuffer> blocks = J8Streams.fileBlocks(file, 1000, 2, stats)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                blocks.forEach(block -> {
+                    byte[] bytes = new byte[block.remaining()];
+                    block.get(bytes);
+                    out.write(bytes, 0, bytes.length);
+                });
+                assertThat(out.toByteArray(), is(BYTES));
+            }
+            assertThat(stats.getBlocks(), is(101L));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEmptyChannel() throws Exception {
+        try (Stream<ByteBuffer> blocks = J8Streams.channelBlocks(
+                () -> Channels.newChannel(new ByteArrayInputStream(new byte[0])), executor, 16, 2, null)) {
+            assertThat(blocks.count(), is(0L));
+        }
+    }
+
+    @Test(expectedExceptions = UncheckedIOException.class)
+    public void testReadFailure() throws Exception {
+        try (Stream<ByteBuffer> blocks = J8Streams.channelBlocks(() -> new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                throw new IOException("boom");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        }, executor, 16, 2, null)) {
+            blocks.count();
+        }
+    }
+
+    /**
+     * Reads {@link #BYTES} at most {@code maxRead} bytes at a time, completing each read before returning.
+     */
+    private static final class ShortReadFileChannel extends AsynchronousFileChannel {
+        private final int maxRead;
+        final AtomicInteger reads = new AtomicInteger();
+
+        ShortReadFileChannel(int maxRead) {
+            this.maxRead = maxRead;
+        }
+
+        @Override
+        public <A> void read(ByteBuffer dst, long position, A attachment,
+                             CompletionHandler<Integer, ? super A> handler) {
+            reads.incrementAndGet();
+            if (position >= BYTES.length) {
+                handler.completed(-1, attachment);
+                return;
+            }
+            int n = (int) Math.min(Math.min(dst.remaining(), maxRead), BYTES.length - position);
+            dst.put(BYTES, (int) position, n);
+            handler.completed(n, attachment);
+        }
+
+        @Override
+        public Future<Integer> read(ByteBuffer dst, long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long size() {
+            return BYTES.length;
+        }
+
+        @Override
+        public AsynchronousFileChannel truncate(long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void force(boolean metaData) {
+        }
+
+        @Override
+        public <A> void lock(long position, long size, boolean shared, A attachment,
+                             CompletionHandler<FileLock, ? super A> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<FileLock> lock(long position, long size, boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <A> void write(ByteBuffer src, long position, A attachment,
+                              CompletionHandler<Integer, ? super A> handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Integer> write(ByteBuffer src, long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class ClosingChannel implements ReadableByteChannel {
+        private final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(BYTES));
+        private final AtomicBoolean closed;
+
+        ClosingChannel(AtomicBoolean closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            // Short reads exercise filling a block from several reads.
+            ByteBuffer limited = dst.duplicate();
+            limited.limit(Math.min(dst.limit(), dst.position() + 1000));
+            int n = channel.read(limited);
+            if (n > 0) {
+                dst.position(dst.position() + n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.set(true);
+            channel.close();
+        }
+    }
+}
@@ -8,8 +8,10 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.Closeable;
+import java.util.Arrays;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -123,4 +125,60 @@ public class CloseableSpliteratorTest {
         assertThat("Unexpected elements", !closeableSpliteratorOfCloseable.tryAdvance(atomicInteger::set));
         Mockito.verify(testCloseable).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSplitsShareResource() throws Exception {
+        AtomicInteger closes = new AtomicInteger();
+        CloseableSpliterator<Integer, AtomicInteger> spliterator = new CloseableSpliterator<>(
+                closes, AtomicInteger::incrementAndGet, Arrays.asList(1, 2, 3, 4).spliterator());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix, notNullValue());
+        prefix.forEachRemaining(i -> {
+        });
+        assertThat(closes.get(), is(0));
+        spliterator.forEachRemaining(i -> {
+        });
+        assertThat(closes.get(), is(1));
+        assertThat(spliterator.isClosed(), is(true));
+        spliterator.close();
+        assertThat(closes.get(), is(1));
+    }
+
+    @Test
+    public void testCloseIsIdempotent() throws Exception {
+        closeableSpliterator.tryAdvance(i -> {
+        });
+        closeableSpliterator.close();
+        closeableSpliterator.close();
+        assertThat(closeableSpliterator.isClosed(), is(true));
+        AtomicInteger afterClose = new AtomicInteger();
+        assertThat(closeableSpliterator.tryAdvance(i -> afterClose.incrementAndGet()), is(false));
+        closeableSpliterator.forEachRemaining(i -> afterClose.incrementAndGet());
+        assertThat(afterClose.get(), is(0));
+        Mockito.verify(testResource).close();
+        // The closed resource's spliterator is not read again.
+        Mockito.verify(testSpliterator).tryAdvance(Mockito.any());
+        Mockito.verify(testSpliterator, Mockito.never()).forEachRemaining(Mockito.any());
+    }
+
+    @Test
+    public void testLeakedResourceIsClosed() throws Exception {
+        AtomicInteger closes = new AtomicInteger();
+        long leaked = CloseableSpliterator.getLeakedCount();
+        leak(closes);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (closes.get() == 0 && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(closes.get(), is(1));
+        assertThat(CloseableSpliterator.getLeakedCount() > leaked, is(true));
+    }
+
+    private static void leak(AtomicInteger closes) {
+        CloseableSpliterator<Integer, AtomicInteger> spliterator = new CloseableSpliterator<>(
+                closes, AtomicInteger::incrementAndGet, Arrays.asList(1, 2, 3).spliterator());
+        spliterator.tryAdvance(i -> {
+        });
+    }
+}
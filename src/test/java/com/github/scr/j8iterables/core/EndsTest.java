@@ -1,9 +1,22 @@
 package com.github.scr.j8iterables.core;
 
 import com.github.scr.j8iterables.J8Iterables;
+import com.github.scr.j8iterables.J8Spliterators;
+import com.github.scr.j8iterables.J8Streams;
 import org.testng.annotations.Test;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -35,4 +48,50 @@ public class EndsTest {
         assertThat("ends from single iterable are not unique",
                 !J8Iterables.ends(Collections.singleton(foo)).get().areUnique());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFastPaths() throws Exception {
+        assertThat(J8Iterables.ends(Arrays.asList(1, 2, 3)).get(), is(Ends.of(1, 3)));
+        assertThat(J8Iterables.ends(new ArrayDeque<>(Arrays.asList(1, 2, 3))).get(), is(Ends.of(1, 3)));
+        assertThat(J8Iterables.ends(new TreeSet<>(Arrays.asList(3, 1, 2))).get(), is(Ends.of(1, 3)));
+        assertThat(J8Iterables.ends(new TreeSet<>(Arrays.asList(3, 1, 2)).descendingSet()).get(), is(Ends.of(3, 1)));
+        assertThat(J8Iterables.ends(new ArrayList<>()).isPresent(), is(false));
+        assertThat(J8Iterables.ends(new ArrayDeque<>()).isPresent(), is(false));
+        assertThat(J8Iterables.ends(J8Iterables.of(1, 2, 3)).get(), is(Ends.of(1, 3)));
+        TreeMap<String, Integer> map = new TreeMap<>();
+        map.put("b", 2);
+        map.put("a", 1);
+        assertThat(J8Iterables.ends(map).get().getLast().getKey(), is("b"));
+        assertThat(J8Iterables.ends(map.navigableKeySet()).get(), is(Ends.of("a", "b")));
+        assertThat(J8Iterables.ends(new TreeMap<>()).isPresent(), is(false));
+    }
+
+    @Test
+    public void testCollector() throws Exception {
+        assertThat(IntStream.range(0, 100000).boxed().parallel().collect(Ends.collector()).get(),
+                is(Ends.of(0, 99999)));
+        assertThat(Stream.empty().collect(Ends.collector()).isPresent(), is(false));
+        assertThat(J8Streams.ends(Stream.of("a")).get(), is(Ends.of("a", "a")));
+    }
+
+    @Test
+    public void testSpliterator() throws Exception {
+        AtomicInteger gets = new AtomicInteger();
+        List<Integer> countingList = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                gets.incrementAndGet();
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 1000;
+            }
+        };
+        assertThat(J8Spliterators.ends(new ReverseListSpliterator<>(countingList)).get(), is(Ends.of(999, 0)));
+        assertThat(gets.get(), is(2));
+        assertThat(J8Spliterators.ends(new LinkedList<>(countingList).spliterator()).get(), is(Ends.of(0, 999)));
+        assertThat(J8Spliterators.ends(Collections.emptyList().spliterator()).isPresent(), is(false));
+    }
+}
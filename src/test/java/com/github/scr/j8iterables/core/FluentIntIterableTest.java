@@ -0,0 +1,75 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import com.github.scr.j8iterables.J8PrimitiveIterables;
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class FluentIntIterableTest {
+    @Test
+    public void testChain() throws Exception {
+        FluentIntIterable iterable = FluentIntIterable.of(1, 2, 3, 4, 5, 6, 7, 8)
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 10)
+                .skip(1)
+                .limit(2);
+        assertThat(iterable.toArray(), is(new int[]{40, 60}));
+        // Re-iterable.
+        assertThat(J8PrimitiveIterables.sum(iterable), is(100));
+    }
+
+    @Test
+    public void testLazy() throws Exception {
+        List<Integer> peeked = new ArrayList<>();
+        FluentIntIterable iterable = FluentIntIterable.of(1, 2, 3).peek(peeked::add);
+        assertThat(peeked.isEmpty(), is(true));
+        assertThat(iterable.limit(2).toArray(), is(new int[]{1, 2}));
+        assertThat(peeked, is(ImmutableList.of(1, 2)));
+    }
+
+    @Test
+    public void testDistinct() throws Exception {
+        assertThat(FluentIntIterable.of(1, 1, 2, 3, 3, 3, 4, 1).distinct().toArray(), is(new int[]{1, 2, 3, 4, 1}));
+        assertThat(FluentDoubleIterable.of(Double.NaN, Double.NaN, 1).distinct().toArray(),
+                is(new double[]{Double.NaN, 1}));
+    }
+
+    @Test
+    public void testConversions() throws Exception {
+        FluentIntIterable iterable = FluentIntIterable.of(1, 2, 3);
+        assertThat(iterable.asLongIterable().map(l -> l << 32).toArray(), is(new long[]{1L << 32, 2L << 32, 3L << 32}));
+        assertThat(iterable.asDoubleIterable().map(d -> d / 2).toArray(), is(new double[]{0.5, 1, 1.5}));
+        assertThat(iterable.mapToObj(Integer::toString).toList(), is(ImmutableList.of("1", "2", "3")));
+        assertThat(FluentDoubleIterable.of(1.5, 2.5).mapToInt(d -> (int) d).toArray(), is(new int[]{1, 2}));
+    }
+
+    @Test
+    public void testArrayViews() throws Exception {
+        IntArrayIterable iterable = FluentIntIterable.of(1, 2, 3, 4, 5);
+        assertThat(iterable.skip(1).limit(3).toArray(), is(new int[]{2, 3, 4}));
+        assertThat(iterable.skip(10).size(), is(0));
+        assertThat(iterable.limit(Long.MAX_VALUE).size(), is(5));
+    }
+
+    @Test
+    public void testFromMapToInt() throws Exception {
+        FluentIntIterable lengths = J8Iterables.mapToFluentInt(ImmutableList.of("a", "bb", "ccc"), String::length);
+        assertThat(lengths.filter(i -> i > 1).toArray(), is(new int[]{2, 3}));
+        assertThat(FluentIntIterable.from(lengths), is(lengths));
+        assertThat(J8Iterables.mapToInt(ImmutableList.of("a"), String::length) instanceof FluentIntIterable, is(true));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNegativeLimit() throws Exception {
+        FluentIntIterable.of(1).map(i -> i).limit(-1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import org.testng.annotations.Test;
+
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class IntArrayIterableTest {
+    private static final int[] ARRAY = IntStream.range(0, 10).toArray();
+
+    @Test
+    public void testIterate() throws Exception {
+        assertThat(J8Iterables.toStream(new IntArrayIterable(ARRAY)).toArray(), is(ARRAY));
+    }
+
+    @Test
+    public void testSliceSharesArray() throws Exception {
+        int[] array = ARRAY.clone();
+        IntArrayIterable slice = new IntArrayIterable(array).slice(2, 5);
+        assertThat(slice.toArray(), is(new int[]{2, 3, 4}));
+        array[3] = 42;
+        assertThat(slice.get(1), is(42));
+    }
+
+    @Test
+    public void testStride() throws Exception {
+        IntArrayIterable strided = new IntArrayIterable(ARRAY).stride(3);
+        assertThat(strided.toArray(), is(new int[]{0, 3, 6, 9}));
+        assertThat(strided.slice(1, 3).toArray(), is(new int[]{3, 6}));
+        assertThat(strided.stride(2).toArray(), is(new int[]{0, 6}));
+        assertThat(J8Iterables.toStream(strided.slice(1, 4)).sum(), is(18));
+    }
+
+    @Test
+    public void testSplitsAtMidpoint() throws Exception {
+        Spliterator.OfInt spliterator = new IntArrayIterable(ARRAY).stride(2).primitiveSpliterator();
+        assertThat("not sized", spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(), is(2L));
+        assertThat(spliterator.getExactSizeIfKnown(), is(3L));
+        StringBuilder stringBuilder = new StringBuilder();
+        prefix.forEachRemaining((int i) -> stringBuilder.append(i));
+        spliterator.forEachRemaining((int i) -> stringBuilder.append(i));
+        assertThat(stringBuilder.toString(), is("02468"));
+        assertThat(spliterator.trySplit(), nullValue());
+    }
+
+    @Test
+    public void testParallelStream() throws Exception {
+        int[] big = IntStream.range(0, 100000).toArray();
+        assertThat(J8Iterables.toStream(new IntArrayIterable(big)).parallel().asLongStream().sum(), is(4999950000L));
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+        IntArrayIterable.Builder builder = IntArrayIterable.builder();
+        for (int i = 0; i < 100; ++i) {
+            builder.add(i);
+        }
+        IntArrayIterable built = builder.build();
+        builder.addAll(100, 101);
+        assertThat(built.size(), is(100));
+        assertThat(builder.build().size(), is(102));
+        assertThat(builder.build().get(101), is(101));
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testSliceOutOfBounds() throws Exception {
+        new IntArrayIterable(ARRAY).slice(5, 11);
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import com.github.scr.j8iterables.J8PrimitiveIterables;
+import com.google.common.collect.FluentIterable;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class IterationMetricsTest {
+    private static final List<Integer> INPUT = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testMetered() throws Exception {
+        IterationMetrics metrics = new IterationMetrics("testMetered", 10);
+        Iterable<Integer> metered = J8Iterables.metered(INPUT, metrics);
+        assertThat(J8Iterables.toStream(metered).count(), is(1000L));
+        Iterator<Integer> iterator = metered.iterator();
+        iterator.next();
+
+        IterationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getIterationsStarted(), is(2L));
+        assertThat(snapshot.getIterationsCompleted(), is(1L));
+        assertThat(snapshot.getElements(), is(1001L));
+        long sampled = 0;
+        for (long count : snapshot.getNextLatencyHistogram()) {
+            sampled += count;
+        }
+        // The first element of each iteration, and every 10th after it.
+        assertThat(sampled, is(101L));
+        assertThat(snapshot.getMeanTraversalNanos() > 0, is(true));
+        assertThat(snapshot.getNextLatencyPercentileNanos(99) >= snapshot.getNextLatencyPercentileNanos(50), is(true));
+    }
+
+    @Test
+    public void testMeteredTimesHasNext() throws Exception {
+        // A filter finds its next element in hasNext, so that is where the time goes.
+        IterationMetrics metrics = new IterationMetrics("testMeteredTimesHasNext", 1);
+        FluentIterable<Integer> slow = FluentIterable.from(INPUT.subList(0, 5)).filter(i -> {
+            Uninterruptibles.sleepUninterruptibly(1, TimeUnit.MILLISECONDS);
+            return true;
+        });
+        assertThat(J8Iterables.toStream(J8Iterables.metered(slow, metrics)).count(), is(5L));
+        assertThat(metrics.getMeanNextNanos() >= TimeUnit.MILLISECONDS.toNanos(1), is(true));
+        assertThat(metrics.getNextLatencyP50Nanos() > 0, is(true));
+    }
+
+    @Test
+    public void testPrimitive() throws Exception {
+        FluentIntIterable metered = J8PrimitiveIterables.metered(J8PrimitiveIterables.of(1, 2, 3), "testPrimitive");
+        assertThat(J8PrimitiveIterables.sum(metered), is(6));
+        IterationMetrics metrics = IterationMetricsRegistry.getDefault().metrics("testPrimitive");
+        assertThat(metrics.getElements(), is(3L));
+        assertThat(metrics.getIterationsCompleted(), is(1L));
+        assertThat(IterationMetricsRegistry.getDefault().snapshot().get("testPrimitive").getElements(), is(3L));
+    }
+
+    @Test
+    public void testPercentile() throws Exception {
+        IterationMetrics.Snapshot snapshot = new IterationMetrics("empty").snapshot();
+        assertThat(snapshot.getNextLatencyPercentileNanos(99), is(0L));
+        long[] histogram = new long[64];
+        histogram[3] = 99;
+        histogram[10] = 1;
+        snapshot = new IterationMetrics.Snapshot("x", 0, 0, 0, 0, 0, 0, histogram);
+        assertThat(snapshot.getNextLatencyPercentileNanos(50), is(15L));
+        assertThat(snapshot.getNextLatencyPercentileNanos(99), is(15L));
+        assertThat(snapshot.getNextLatencyPercentileNanos(100), is(2047L));
+    }
+
+    @Test
+    public void testJmx() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        IterationMetricsRegistry registry = new IterationMetricsRegistry();
+        registry.metrics("before");
+        registry.exportTo(server);
+        registry.metrics("after").recordElements(5);
+        assertThat(server.isRegistered(IterationMetricsRegistry.objectName("before")), is(true));
+        assertThat(server.getAttribute(IterationMetricsRegistry.objectName("after"), "Elements"), is(5L));
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.scr.j8iterables.core;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class IteratorBatchSpliteratorTest {
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testBatchesGrowGeometrically() throws Exception {
+        IteratorBatchSpliterator<Integer> spliterator =
+                new IteratorBatchSpliterator<>(range(1000).iterator(), Long.MAX_VALUE, 0, 1, 4);
+        List<Long> sizes = new ArrayList<>();
+        for (Spliterator<Integer> split = spliterator.trySplit(); split != null; split = spliterator.trySplit()) {
+            sizes.add(split.getExactSizeIfKnown());
+        }
+        assertThat(sizes.subList(0, 4), is(Arrays.asList(4L, 8L, 16L, 32L)));
+        assertThat(sizes.stream().mapToLong(Long::longValue).sum(), is(1000L));
+        assertThat(spliterator.trySplit(), nullValue());
+    }
+
+    @Test
+    public void testExpectedSizeCapsBatches() throws Exception {
+        IteratorBatchSpliterator<Integer> spliterator =
+                new IteratorBatchSpliterator<>(range(1000).iterator(), 1000, 0, 2, 4);
+        for (int i = 0; i < 10; ++i) {
+            spliterator.trySplit();
+        }
+        // 1000 elements for 2 workers with 4 batches each.
+        assertThat(spliterator.getBatchSize(), is(125));
+    }
+
+    @Test
+    public void testNotSized() throws Exception {
+        IteratorBatchSpliterator<Integer> spliterator = new IteratorBatchSpliterator<>(
+                range(10).iterator(), 10, Spliterator.ORDERED | Spliterator.SIZED, 1, 1);
+        assertThat("sized", !spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertThat("not ordered", spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertThat(spliterator.estimateSize(), is(10L));
+        assertThat("split not sized", spliterator.trySplit().hasCharacteristics(Spliterator.SIZED));
+        assertThat(spliterator.estimateSize(), is(9L));
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() throws Exception {
+        List<Integer> input = range(100000);
+        List<Integer> output = StreamSupport.stream(new IteratorBatchSpliterator<>(
+                input.iterator(), Spliterator.ORDERED), true).collect(Collectors.toList());
+        assertThat(output, is(input));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMinBatchMustBePositive() throws Exception {
+        new IteratorBatchSpliterator<>(range(1).iterator(), 1, 0, 1, 0);
+    }
+}
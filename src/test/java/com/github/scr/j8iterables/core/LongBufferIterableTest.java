@@ -0,0 +1,89 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class LongBufferIterableTest {
+    private static LongBuffer direct(long... values) {
+        LongBuffer buffer = ByteBuffer.allocateDirect(values.length * Long.BYTES).asLongBuffer();
+        buffer.put(values).flip();
+        return buffer;
+    }
+
+    @Test
+    public void testSegments() throws Exception {
+        LongBufferIterable iterable = new LongBufferIterable(
+                direct(0, 1, 2), direct(), direct(3), LongBuffer.wrap(new long[]{4, 5, 6, 7}));
+        assertThat(iterable.size(), is(8L));
+        assertThat(iterable.get(3), is(3L));
+        assertThat(iterable.get(7), is(7L));
+        assertThat(J8Iterables.toStream(iterable).toArray(), is(LongStream.range(0, 8).toArray()));
+    }
+
+    @Test
+    public void testSplitAcrossSegments() throws Exception {
+        LongBufferIterable iterable = new LongBufferIterable(direct(0, 1, 2), direct(), direct(3, 4));
+        Spliterator.OfLong spliterator = iterable.primitiveSpliterator();
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(), is(2L));
+        StringBuilder stringBuilder = new StringBuilder();
+        prefix.forEachRemaining((long l) -> stringBuilder.append(l));
+        while (spliterator.tryAdvance((long l) -> stringBuilder.append(l))) {
+            stringBuilder.append(',');
+        }
+        assertThat(stringBuilder.toString(), is("012,3,4,"));
+    }
+
+    @Test
+    public void testIteratorAcrossSegments() throws Exception {
+        LongBufferIterable iterable = new LongBufferIterable(
+                direct(), direct(0, 1), direct(), direct(), direct(2), LongBuffer.wrap(new long[]{3, 4, 5}), direct());
+        PrimitiveIterator.OfLong iterator = iterable.primitiveIterator();
+        StringBuilder stringBuilder = new StringBuilder();
+        while (iterator.hasNext()) {
+            stringBuilder.append(iterator.nextLong());
+        }
+        assertThat(stringBuilder.toString(), is("012345"));
+
+        // Splitting moves the suffix within the segment it last read from.
+        Spliterator.OfLong spliterator = iterable.primitiveSpliterator();
+        spliterator.tryAdvance((long l) -> stringBuilder.append(l));
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(), is(2L));
+        while (spliterator.tryAdvance((long l) -> stringBuilder.append(l))) {
+            stringBuilder.append(',');
+        }
+        assertThat(stringBuilder.toString(), is("01234503,4,5,"));
+    }
+
+    @Test
+    public void testRemainingOnly() throws Exception {
+        LongBuffer buffer = direct(0, 1, 2, 3);
+        buffer.position(2);
+        LongBufferIterable iterable = new LongBufferIterable(buffer);
+        buffer.position(0);
+        assertThat(J8Iterables.toStream(iterable).toArray(), is(new long[]{2, 3}));
+    }
+
+    @Test
+    public void testParallelStream() throws Exception {
+        long[] values = LongStream.range(0, 100000).toArray();
+        LongBufferIterable iterable = new LongBufferIterable(
+                direct(Arrays.copyOfRange(values, 0, 33333)),
+                direct(Arrays.copyOfRange(values, 33333, 100000)));
+        assertThat(J8Iterables.toStream(iterable).parallel().sum(), is(4999950000L));
+    }
+}
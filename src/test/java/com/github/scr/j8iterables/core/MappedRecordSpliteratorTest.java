@@ -0,0 +1,124 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Streams;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class MappedRecordSpliteratorTest {
+    private static final List<String> LINES = IntStream.range(0, 5000)
+            .mapToObj(i -> "event-" + i + (i % 7 == 0 ? "" : "-payload"))
+            .collect(Collectors.toList());
+
+    private Path file;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        file = Files.createTempFile("MappedRecordSpliteratorTest", ".txt");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.delete(file);
+    }
+
+    @Test
+    public void testMappedLines() throws Exception {
+        Files.write(file, LINES);
+        try (Stream<CharSequence> lines = J8Streams.mappedLines(file)) {
+            assertThat(lines.map(CharSequence::toString).collect(Collectors.toList()), is(LINES));
+        }
+        try (Stream<CharSequence> lines = J8Streams.mappedLines(file).parallel()) {
+            assertThat(lines.map(CharSequence::toString).collect(Collectors.toList()), is(LINES));
+        }
+    }
+
+    @Test
+    public void testWindowsAndCarriageReturns() throws Exception {
+        Files.write(file, String.join("\r\n", LINES).getBytes(StandardCharsets.US_ASCII));
+        try (Stream<ByteBuffer> records = J8Streams.mappedRecords(file, RecordFormat.delimited((byte) '\n'), 100)) {
+            List<String> lines = records.parallel()
+                    .map(record -> StandardCharsets.US_ASCII.decode(record).toString().trim())
+                    .collect(Collectors.toList());
+            assertThat(lines, is(LINES));
+        }
+    }
+
+    @Test
+    public void testFixedLength() throws Exception {
+        byte[] bytes = new byte[10 * 1000 + 3];
+        for (int i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) (i / 10);
+        }
+        Files.write(file, bytes);
+        try (Stream<ByteBuffer> records = J8Streams.mappedRecords(file, RecordFormat.fixedLength(10), 64)) {
+            List<Integer> firsts = records.parallel().map(record -> record.get(0) & 0xFF).collect(Collectors.toList());
+            assertThat(firsts.size(), is(1001));
+            assertThat(firsts.get(999), is(999 & 0xFF));
+        }
+    }
+
+    @Test
+    public void testLengthPrefixed() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(LINES.stream().mapToInt(line -> line.length() + 2).sum())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        LINES.forEach(line -> buffer.putShort((short) line.length()).put(line.getBytes(StandardCharsets.US_ASCII)));
+        Files.write(file, buffer.array());
+        try (Stream<ByteBuffer> records = J8Streams.mappedRecords(
+                file, RecordFormat.lengthPrefixed(2, ByteOrder.LITTLE_ENDIAN), 1000)) {
+            assertThat(records.parallel().map(ByteBufferCharSequence::new).map(CharSequence::toString)
+                    .collect(Collectors.toList()), is(LINES));
+        }
+    }
+
+    @Test
+    public void testSplitsAtRecordBoundaries() throws Exception {
+        Files.write(file, LINES);
+        try (Stream<ByteBuffer> records = J8Streams.mappedRecords(file, RecordFormat.delimited((byte) '\n'))) {
+            Spliterator<ByteBuffer> spliterator = records.spliterator();
+            Spliterator<ByteBuffer> prefix = spliterator.trySplit();
+            StringBuilder first = new StringBuilder();
+            prefix.forEachRemaining(record -> first.append(new ByteBufferCharSequence(record)).append('\n'));
+            StringBuilder second = new StringBuilder();
+            spliterator.forEachRemaining(record -> second.append(new ByteBufferCharSequence(record)).append('\n'));
+            assertThat(first.length() > 0 && second.length() > 0, is(true));
+            assertThat(first.toString() + second, is(String.join("\n", LINES) + "\n"));
+        }
+    }
+
+    @Test(expectedExceptions = UncheckedIOException.class)
+    public void testRecordLargerThanWindow() throws Exception {
+        Files.write(file, Arrays.asList("short", "much too long for the window"));
+        try (Stream<ByteBuffer> records = J8Streams.mappedRecords(file, RecordFormat.delimited((byte) '\n'), 16)) {
+            records.count();
+        }
+    }
+
+    @Test
+    public void testCharSequence() throws Exception {
+        CharSequence chars = new ByteBufferCharSequence(
+                ByteBuffer.wrap("hello, world".getBytes(StandardCharsets.US_ASCII)));
+        assertThat(chars.length(), is(12));
+        assertThat(chars.charAt(4), is('o'));
+        assertThat(chars.subSequence(7, 12).toString(), is("world"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import com.github.scr.j8iterables.J8Iterators;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class PeekSamplerTest {
+    private static final List<Integer> INPUT = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testEveryNth() throws Exception {
+        List<Integer> sampled = new ArrayList<>();
+        Iterator<Integer> iterator = J8Iterators.peek(
+                Arrays.asList(0, 1, 2, 3, 4, 5, 6).iterator(), PeekSampler.everyNth(3), sampled::add);
+        assertThat(iterator.next(), is(0));
+        assertThat(iterator.next(), is(1));
+        // Bulk traversal keeps sampling.
+        List<Integer> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertThat(rest, is(Arrays.asList(2, 3, 4, 5, 6)));
+        assertThat(sampled, is(Arrays.asList(0, 3, 6)));
+    }
+
+    @Test
+    public void testWithProbability() throws Exception {
+        AtomicInteger sampled = new AtomicInteger();
+        assertThat(J8Iterables.peek(INPUT, PeekSampler.withProbability(0.01), i -> sampled.incrementAndGet()).size(),
+                is(INPUT.size()));
+        assertThat(sampled.get() > 700 && sampled.get() < 1300, is(true));
+
+        sampled.set(0);
+        J8Iterables.peek(INPUT, PeekSampler.withProbability(1), i -> sampled.incrementAndGet()).size();
+        assertThat(sampled.get(), is(INPUT.size()));
+    }
+
+    @Test
+    public void testRateLimited() throws Exception {
+        AtomicInteger sampled = new AtomicInteger();
+        PeekSampler sampler = PeekSampler.rateLimited(0.001);
+        J8Iterables.peek(INPUT, sampler, i -> sampled.incrementAndGet()).size();
+        J8Iterables.peek(INPUT, sampler, i -> sampled.incrementAndGet()).size();
+        assertThat(sampled.get(), is(1));
+
+        sampled.set(0);
+        J8Iterables.peek(INPUT, PeekSampler.rateLimited(1e9, 1000), i -> sampled.incrementAndGet()).size();
+        assertThat(sampled.get() > 0 && sampled.get() <= 100, is(true));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testBadProbability() throws Exception {
+        PeekSampler.withProbability(0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import com.github.scr.j8iterables.J8Iterators;
+import com.github.scr.j8iterables.J8Streams;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testng.Assert.fail;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class PrefetchingIteratorTest {
+    private static final List<Integer> INPUT = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void testIterable() throws Exception {
+        assertThat(J8Iterables.prefetch(INPUT, executor, 100, 7).toList(), is(INPUT));
+        assertThat(J8Iterables.prefetch(ImmutableList.of(), executor, 1, 1).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Integer> stream = J8Streams.prefetch(
+                INPUT.stream().onClose(() -> closed.set(true)), executor, 64, 16)) {
+            assertThat(stream.collect(Collectors.toList()), is(INPUT));
+        }
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        Iterator<Integer> failing = Iterators.concat(INPUT.subList(0, 10).iterator(), new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("boom");
+            }
+        });
+        List<Integer> seen = new ArrayList<>();
+        try (PrefetchingIterator<Integer> iterator = J8Iterators.prefetch(failing, executor, 8, 4)) {
+            iterator.forEachRemaining(seen::add);
+            fail("expected the source's exception");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("boom"));
+        }
+        assertThat(seen, is(INPUT.subList(0, 10)));
+    }
+
+    @Test
+    public void testStats() throws Exception {
+        try (PrefetchingIterator<Integer> iterator = J8Iterators.prefetch(INPUT.iterator(), executor, 40, 10)) {
+            assertThat(iterator.next(), is(0));
+            // The source is fast, so the fetch fills the queue and waits for the caller.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (iterator.getFetchStalls() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(iterator.getCapacityBatches(), is(4));
+            assertThat(iterator.getMaxQueuedBatches(), is(4));
+            assertThat(iterator.getFetchStalls() > 0, is(true));
+            List<Integer> rest = new ArrayList<>();
+            iterator.forEachRemaining(rest::add);
+            assertThat(rest, is(INPUT.subList(1, 1000)));
+            assertThat(iterator.getFetched(), is(1000L));
+        }
+    }
+
+    @Test
+    public void testAverageQueuedBatches() throws Exception {
+        // The fetch runs on another thread, but starting it waits until it has queued three batches and the end, so
+        // every take finds the queue as full as it can be: 4, 3, 2 and then 1 for the end.
+        AtomicReference<PrefetchingIterator<Integer>> started = new AtomicReference<>();
+        Executor fillFirst = fetch -> {
+            executor.execute(fetch);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (started.get().getQueuedBatches() < 4 && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+        };
+        try (PrefetchingIterator<Integer> iterator = J8Iterators.prefetch(
+                INPUT.subList(0, 30).iterator(), fillFirst, 40, 10)) {
+            started.set(iterator);
+            List<Integer> all = new ArrayList<>();
+            iterator.forEachRemaining(all::add);
+            assertThat(all, is(INPUT.subList(0, 30)));
+            assertThat(iterator.getAverageQueuedBatches(), is(2.5));
+            assertThat(iterator.getCallerStalls(), is(0L));
+            assertThat(iterator.getFetchStalls(), is(0L));
+        }
+    }
+
+    @Test
+    public void testCloseCancelsBlockedSource() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Iterator<Integer> source = new Iterator<Integer>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (next == 5) {
+                    blocked.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return next++;
+            }
+        };
+        PrefetchingIterator<Integer> iterator = J8Iterators.prefetch(source, executor, 4, 1);
+        assertThat(iterator.next(), is(0));
+        assertThat(blocked.await(5, TimeUnit.SECONDS), is(true));
+        iterator.close();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+}
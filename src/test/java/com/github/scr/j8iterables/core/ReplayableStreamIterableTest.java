@@ -0,0 +1,91 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class ReplayableStreamIterableTest {
+    private static final List<Integer> INPUT = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testLazyReplay() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Integer> stream = INPUT.stream().peek(i -> pulled.incrementAndGet()).onClose(closed::incrementAndGet);
+        try (ReplayableStreamIterable<Integer> iterable = J8Iterables.replayable(stream)) {
+            Iterator<Integer> first = iterable.iterator();
+            first.next();
+            first.next();
+            assertThat(pulled.get(), is(2));
+            assertThat(iterable.limit(5).toList(), is(INPUT.subList(0, 5)));
+            assertThat(pulled.get(), is(5));
+            assertThat(first.next(), is(2));
+            assertThat(iterable.toList(), is(INPUT));
+            assertThat(iterable.toList(), is(INPUT));
+            assertThat(J8Iterables.toStream(iterable).parallel().mapToInt(i -> i).sum(), is(499500));
+            assertThat(pulled.get(), is(1000));
+            assertThat(closed.get(), is(1));
+        }
+    }
+
+    @Test
+    public void testSpill() throws Exception {
+        Path tempDir = Files.createTempDirectory("ReplayableStreamIterableTest");
+        try {
+            ReplayableStreamIterable<Integer> iterable =
+                    J8Iterables.replayable(INPUT.stream(), 10, 3, SpillCodec.serializable(), tempDir);
+            assertThat(iterable.toList(), is(INPUT));
+            assertThat(iterable.getSpilledChunks(), is(97));
+            assertThat(Files.list(tempDir).count(), is(1L));
+            assertThat(iterable.toList(), is(INPUT));
+            iterable.close();
+            assertThat(Files.list(tempDir).count(), is(0L));
+        } finally {
+            Files.delete(tempDir);
+        }
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        ReplayableStreamIterable<Integer> iterable =
+                J8Iterables.replayable(INPUT.stream(), 7, 2, SpillCodec.serializable(), null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                futures.add(executor.submit(iterable::toList));
+            }
+            for (Future<List<Integer>> future : futures) {
+                assertThat(future.get(), is(INPUT));
+            }
+        } finally {
+            executor.shutdown();
+            iterable.close();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testClosed() throws Exception {
+        ReplayableStreamIterable<Integer> iterable = J8Iterables.replayable(Stream.of(1));
+        iterable.close();
+        iterable.iterator().hasNext();
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.scr.j8iterables.core;
+
+import com.github.scr.j8iterables.J8Iterables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by scr on 10/18/26.
+ */
+public class SpillingReverseIteratorTest {
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        tempDir = Files.createTempDirectory("SpillingReverseIteratorTest");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Files.delete(tempDir);
+    }
+
+    private long spillFiles() throws Exception {
+        return Files.list(tempDir).count();
+    }
+
+    @Test
+    public void testSpilled() throws Exception {
+        List<Integer> input = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        SpillingReverseIterator<Integer> iterator =
+                new SpillingReverseIterator<>(input.iterator(), 3, SpillCodec.serializable(), tempDir);
+        List<Integer> output = new ArrayList<>();
+        output.add(iterator.next());
+        assertThat(iterator.isSpilled(), is(true));
+        assertThat(spillFiles(), is(1L));
+        iterator.forEachRemaining(output::add);
+        assertThat(output, is(Lists.reverse(input)));
+        assertThat(spillFiles(), is(0L));
+    }
+
+    @Test
+    public void testInMemory() throws Exception {
+        SpillingReverseIterator<String> iterator = new SpillingReverseIterator<>(
+                ImmutableList.of("a", "b", "c").iterator(), 3, SpillCodec.strings(), tempDir);
+        assertThat(iterator.next(), is("c"));
+        assertThat(iterator.isSpilled(), is(false));
+        assertThat(spillFiles(), is(0L));
+    }
+
+    @Test
+    public void testCloseDeletes() throws Exception {
+        SpillingReverseIterator<String> iterator = new SpillingReverseIterator<>(
+                ImmutableList.of("a", "b", "c", "d").iterator(), 2, SpillCodec.strings(), tempDir);
+        assertThat(iterator.next(), is("d"));
+        assertThat(spillFiles(), is(1L));
+        iterator.close();
+        assertThat(spillFiles(), is(0L));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void testIterable() throws Exception {
+        List<String> input = IntStream.range(0, 100).mapToObj(Integer::toString).collect(Collectors.toList());
+        assertThat(J8Iterables.reverse(input::iterator, 7, SpillCodec.strings(), tempDir).toList(),
+                is(Lists.reverse(input)));
+        Iterator<String> iterator = J8Iterables.reverse(input::iterator, 7, SpillCodec.strings(), tempDir).iterator();
+        assertThat(iterator.next(), is("99"));
+        ((SpillingReverseIterator<String>) iterator).close();
+        assertThat(J8Iterables.reverse(ImmutableList.of(), 7, SpillCodec.strings()).isEmpty(), is(true));
+    }
+}